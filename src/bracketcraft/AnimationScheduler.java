@@ -0,0 +1,99 @@
+package bracketcraft;
+
+import javax.swing.Timer;
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * -- ANIMATION SCHEDULER --
+ * One shared frame clock for every UI animation, ticking at the display refresh rate.
+ * Progress is time-based, so a slow frame just means the next one jumps ahead (frames get skipped,
+ * the animation never runs long). The timer coalesces ticks and stops itself when nothing is animating.
+ */
+public final class AnimationScheduler {
+
+    /** Receives the eased progress (0..1) once per frame. */
+    public interface FrameCallback {
+        void onFrame(double progress);
+    }
+
+    public interface Easing {
+        double apply(double t);
+    }
+
+    public static final Easing LINEAR = t -> t;
+    public static final Easing EASE_IN_OUT = t -> t < 0.5 ? 4 * t * t * t : 1 - Math.pow(-2 * t + 2, 3) / 2;
+
+    private static final int FALLBACK_REFRESH_RATE = 60;
+    private static AnimationScheduler instance;
+
+    private final Timer frameTimer;
+    private final List<Animation> active = new ArrayList<>();
+
+    /** Handle for a running animation. */
+    public final class Animation {
+        private final long startNanos = System.nanoTime();
+        private final long durationNanos;
+        private final Easing easing;
+        private final FrameCallback onFrame;
+        private final Runnable onFinish;
+
+        private Animation(int durationMs, Easing easing, FrameCallback onFrame, Runnable onFinish) {
+            this.durationNanos = Math.max(1, durationMs) * 1_000_000L;
+            this.easing = easing;
+            this.onFrame = onFrame;
+            this.onFinish = onFinish;
+        }
+
+        public boolean isRunning() { return active.contains(this); }
+
+        /** Stops without jumping to the end or calling onFinish. */
+        public void cancel() { active.remove(this); }
+    }
+
+    private AnimationScheduler() {
+        frameTimer = new Timer(1000 / detectRefreshRate(), e -> tick());
+        frameTimer.setCoalesce(true);
+    }
+
+    /** Must be used from the EDT, like the rest of Swing. */
+    public static AnimationScheduler getInstance() {
+        if (instance == null) instance = new AnimationScheduler();
+        return instance;
+    }
+
+    public Animation animate(int durationMs, Easing easing, FrameCallback onFrame, Runnable onFinish) {
+        Animation animation = new Animation(durationMs, easing, onFrame, onFinish);
+        active.add(animation);
+        if (!frameTimer.isRunning()) frameTimer.start();
+        return animation;
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        for (Animation animation : new ArrayList<>(active)) {
+            double t = Math.min(1.0, (double) (now - animation.startNanos) / animation.durationNanos);
+            animation.onFrame.onFrame(animation.easing.apply(t));
+            if (t >= 1.0) {
+                active.remove(animation);
+                if (animation.onFinish != null) animation.onFinish.run();
+            }
+        }
+        Toolkit.getDefaultToolkit().sync();
+        if (active.isEmpty()) frameTimer.stop();
+    }
+
+    private static int detectRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return FALLBACK_REFRESH_RATE;
+        try {
+            DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode();
+            int rate = mode.getRefreshRate();
+            return rate == DisplayMode.REFRESH_RATE_UNKNOWN || rate <= 0 ? FALLBACK_REFRESH_RATE : rate;
+        } catch (Exception e) {
+            return FALLBACK_REFRESH_RATE;
+        }
+    }
+}
@@ -29,6 +29,8 @@ public class AppTheme {
     public static final Color BACKGROUND_PANEL = DARK_CHARCOAL; // For match boxes
     public static final Color BRACKET_LINE_COLOR = DARK_CHARCOAL; // For connector lines
     public static final Color WINNER_ACCENT_BACKGROUND = VIBRANT_GREEN; // For the winner advancement indicator
+    public static final Color TEXT_BRACKET = new Color(245, 245, 245); // Names and scores inside match boxes
+    public static final Color BRACKET_DIVIDER_COLOR = new Color(85, 90, 95); // Line between the two participants
     
     // --- Semantic Fonts ---
     public static final Font FONT_H1 = new Font("Segoe UI", Font.BOLD, 18);
@@ -40,4 +42,6 @@ public class AppTheme {
     
     // --- Semantic Fonts for the Bracket Display ---
     public static final Font FONT_BRACKET_HEADER = new Font("Segoe UI", Font.BOLD, 14);
+    public static final Font FONT_BRACKET_NAME = new Font("Segoe UI", Font.PLAIN, 15);
+    public static final Font FONT_BRACKET_SCORE = new Font("Segoe UI", Font.BOLD, 15);
 }
\ No newline at end of file
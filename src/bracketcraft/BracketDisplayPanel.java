@@ -7,33 +7,56 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.geom.Point2D;
 import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 public class BracketDisplayPanel extends JPanel {
     private Tournament tournament;
     private final JPanel drawingCanvas;
     private final JLabel footerLabel;
 
-    private static final int MATCH_WIDTH = 200;
-    private static final int MATCH_HEIGHT = 80;
-    private static final int HORIZONTAL_GAP = 120;
-    private static final int VERTICAL_GAP = 20;
+    static final int MATCH_WIDTH = 200;
+    static final int MATCH_HEIGHT = 80;
+    static final int HORIZONTAL_GAP = 120;
+    static final int VERTICAL_GAP = 20;
 
     private double scale = 1.0;
     private Point2D.Double viewOffset = new Point2D.Double(0, 0);
     private Point lastDragPoint;
+    private boolean draggingMinimap;
+    private final MinimapOverlay minimap = new MinimapOverlay();
+    private BufferedImage snapshot;
     
-    private Map<Match, Point> matchPositions;
+    private BracketLayout layout;
+    private BracketLayout.Strategy layoutStrategy = BracketLayout.LEFT_TO_RIGHT;
+
+    // --- Result entry & search ---
+    private static final int SEARCH_PARTICIPANT_LIMIT = 50;
+    private boolean resultEntryEnabled = false;
+    private MatchSearchIndex searchIndex;
+    private List<Match> searchResults = Collections.emptyList();
+    private int searchPosition = -1;
+    private String lastQuery = "";
+    private final Set<Match> highlightedMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final JTextField searchField;
+    private EditHistory editHistory;
+    private MatchScheduler scheduler;
+    private final TournamentListener resultsListener = this::onResultsRecorded;
+    private static final int PARTIAL_REPAINT_LIMIT = 64;
 
     public BracketDisplayPanel() {
         setLayout(new BorderLayout());
         setOpaque(false);
-        this.matchPositions = new HashMap<>();
 
-        add(createHeaderFooter("OCT | TOURNAMENT BRACKET", AppTheme.TEXT_PRIMARY, AppTheme.ACCENT_PRIMARY, FlowLayout.RIGHT), BorderLayout.NORTH);
+        JPanel headerPanel = createHeaderFooter("OCT | TOURNAMENT BRACKET", AppTheme.TEXT_PRIMARY, AppTheme.ACCENT_PRIMARY, FlowLayout.RIGHT);
+        this.searchField = createSearchField();
+        headerPanel.add(searchField, 0);
+        headerPanel.add(Box.createHorizontalStrut(20), 1);
+        add(headerPanel, BorderLayout.NORTH);
 
         JPanel footerPanel = createHeaderFooter("", AppTheme.TEXT_ACCENT, AppTheme.ACCENT_PRIMARY, FlowLayout.RIGHT);
         this.footerLabel = (JLabel) footerPanel.getComponent(0);
@@ -43,28 +66,71 @@ public class BracketDisplayPanel extends JPanel {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                drawBracket(g);
+                if (snapshot != null) {
+                    g.drawImage(snapshot, 0, 0, null);
+                } else {
+                    paintCanvas((Graphics2D) g, getWidth(), getHeight());
+                }
+            }
+
+            @Override
+            public String getToolTipText(MouseEvent e) {
+                // Game-by-game scores of a series (built once per change, not per hover) and where/when it's planned
+                Match match = findMatchAt(e.getPoint());
+                if (match == null) return null;
+                String summary = match.getSeriesSummary();
+                if (scheduler == null || !scheduler.isScheduled(match) || scheduler.isFinished(match)) return summary;
+                String plan = "Station " + (scheduler.getStation(match) + 1) + ", around minute " + scheduler.getEstimatedStart(match);
+                return summary == null ? plan : summary + "  |  " + plan;
             }
         };
         drawingCanvas.setOpaque(false);
+        drawingCanvas.setToolTipText("");   // registers with the ToolTipManager; the text comes from the override
         add(drawingCanvas, BorderLayout.CENTER);
 
         addInteractionListeners();
     }
 
     public void setTournament(Tournament newTournament) {
+        if (tournament != null) tournament.removeTournamentListener(resultsListener);
         this.tournament = newTournament;
+        if (tournament != null) tournament.addTournamentListener(resultsListener);
+        calculateAllMatchPositions();
+        searchIndex = null;
+        clearSearch();
+        resetView();
+    }
+
+    public Tournament getTournament() {
+        return tournament;
+    }
+    
+    /**
+     * Switches between the classic left-to-right layout and the mirrored two-sided one.
+     */
+    public void setLayoutStrategy(BracketLayout.Strategy strategy) {
+        if (strategy == layoutStrategy) return;
+        this.layoutStrategy = strategy;
         calculateAllMatchPositions();
         resetView();
     }
     
+    /**
+     * Fits the whole bracket into the canvas (never zooming in past 100%) and centers it.
+     */
     private void resetView() {
         scale = 1.0;
         lastDragPoint = null;
-        if (tournament != null && !tournament.getRounds().isEmpty()) {
+        if (tournament != null && layout != null) {
             Rectangle bounds = getBracketBounds();
-            viewOffset.x = (drawingCanvas.getWidth() - bounds.width * scale) / 2.0 - bounds.x * scale + 50;
-            viewOffset.y = (drawingCanvas.getHeight() - bounds.height * scale) / 2.0 - bounds.y * scale + 50;
+            int availableWidth = drawingCanvas.getWidth() - 100;
+            int availableHeight = drawingCanvas.getHeight() - 100;
+            if (availableWidth > 0 && availableHeight > 0 && bounds.width > 0 && bounds.height > 0) {
+                double fit = Math.min((double) availableWidth / bounds.width, (double) availableHeight / bounds.height);
+                scale = Math.max(0.2, Math.min(fit, 1.0));
+            }
+            viewOffset.x = (drawingCanvas.getWidth() - bounds.width * scale) / 2.0 - bounds.x * scale;
+            viewOffset.y = (drawingCanvas.getHeight() - bounds.height * scale) / 2.0 - bounds.y * scale;
         } else {
             viewOffset.x = 0;
             viewOffset.y = 0;
@@ -72,6 +138,23 @@ public class BracketDisplayPanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Double-clicking a match opens the inline score editor. Off for the live preview, on once the tournament starts.
+     */
+    public void setResultEntryEnabled(boolean enabled) {
+        this.resultEntryEnabled = enabled;
+    }
+
+    /** Shows each unplayed match's planned station and start time in its tooltip. */
+    public void setScheduler(MatchScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /** Where score edits get recorded so they can be undone. */
+    public void setEditHistory(EditHistory editHistory) {
+        this.editHistory = editHistory;
+    }
+
     public void setSportName(String sportName) {
         footerLabel.setText(sportName != null && !sportName.trim().isEmpty() ? sportName.toUpperCase() + " " : "");
     }
@@ -94,8 +177,20 @@ public class BracketDisplayPanel extends JPanel {
                 repaint();
             }
 
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && SwingUtilities.isLeftMouseButton(e) && !minimap.contains(e.getPoint())) {
+                    openScoreEditor(e.getPoint());
+                }
+            }
+
             @Override
             public void mousePressed(MouseEvent e) {
+                if (SwingUtilities.isLeftMouseButton(e) && minimap.contains(e.getPoint())) {
+                    draggingMinimap = true;
+                    centerOn(minimap.toWorld(e.getPoint()));
+                    return;
+                }
                 if (SwingUtilities.isMiddleMouseButton(e) || SwingUtilities.isLeftMouseButton(e)) {
                     lastDragPoint = e.getPoint();
                     drawingCanvas.setCursor(new Cursor(Cursor.MOVE_CURSOR));
@@ -105,12 +200,15 @@ public class BracketDisplayPanel extends JPanel {
             @Override
             public void mouseReleased(MouseEvent e) {
                 lastDragPoint = null;
+                draggingMinimap = false;
                 drawingCanvas.setCursor(Cursor.getDefaultCursor());
             }
 
             @Override
             public void mouseDragged(MouseEvent e) {
-                if (lastDragPoint != null) {
+                if (draggingMinimap) {
+                    centerOn(minimap.toWorld(e.getPoint()));
+                } else if (lastDragPoint != null) {
                     int dx = e.getX() - lastDragPoint.x;
                     int dy = e.getY() - lastDragPoint.y;
                     viewOffset.x += dx;
@@ -125,12 +223,270 @@ public class BracketDisplayPanel extends JPanel {
         drawingCanvas.addMouseMotionListener(adapter);
     }
     
+    private void paintCanvas(Graphics2D g, int width, int height) {
+        Graphics2D bracketGraphics = (Graphics2D) g.create();
+        try {
+            drawBracket(bracketGraphics, width, height);
+        } finally {
+            bracketGraphics.dispose();
+        }
+        if (layout != null) {
+            minimap.paint(g, width, height, screenToWorld(new Point(0, 0)), screenToWorld(new Point(width, height)));
+        }
+        if (BracketMetrics.ENABLED) drawMetricsOverlay(g);
+    }
+
+    /**
+     * Freezes the canvas into an image while something else (e.g. the sidebar) animates around it,
+     * so each animation frame is a blit instead of a full bracket repaint.
+     * @param extraWidth how much wider the canvas may get during the animation.
+     */
+    public void beginSnapshot(int extraWidth) {
+        int width = drawingCanvas.getWidth() + Math.max(0, extraWidth);
+        int height = drawingCanvas.getHeight();
+        if (width <= 0 || height <= 0) return;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            paintCanvas(g, width, height);
+        } finally {
+            g.dispose();
+        }
+        snapshot = image;
+    }
+
+    public void endSnapshot() {
+        snapshot = null;
+        drawingCanvas.repaint();
+    }
+
+    /**
+     * Screen point -> world -> match, via the layout's per-column binary search.
+     */
+    public Match findMatchAt(Point screenPoint) {
+        if (layout == null) return null;
+        Point2D.Double world = screenToWorld(screenPoint);
+        return layout.matchAt(world.x, world.y);
+    }
+
+    private void openScoreEditor(Point screenPoint) {
+        if (!resultEntryEnabled) return;
+        Match match = findMatchAt(screenPoint);
+        if (match == null || match.getParticipant1() == null || match.getParticipant2() == null) return;
+
+        int bestOf = tournament.getBestOf(match.getRound());
+        MatchScoreEditor editor;
+        if (bestOf > 1) {
+            // A series is entered a game at a time; the tally and the winner follow from the games
+            if (match.getWinner() != null) return;
+            String heading = "Game " + (match.getScore1() + match.getScore2() + 1) + " (best of " + bestOf + ")";
+            editor = new MatchScoreEditor(match, heading, 0, 0, (m, s1, s2) -> {
+                try {
+                    recordGame(m, s1, s2);
+                } catch (IllegalArgumentException | IllegalStateException ex) {
+                    return ex.getMessage();
+                }
+                return null;
+            });
+        } else {
+            editor = new MatchScoreEditor(match, (m, s1, s2) -> {
+                try {
+                    recordResults(Collections.singletonList(new MatchResult(m, s1, s2)));
+                } catch (IllegalArgumentException | IllegalStateException ex) {
+                    return ex.getMessage();
+                }
+                return null;
+            });
+        }
+        int index = layout.indexOfSlot(match.getRound(), match.getSlot());
+        int x = (int) (layout.getX(match.getRound(), index) * scale + viewOffset.x);
+        int y = (int) ((layout.getY(match.getRound(), index) + MATCH_HEIGHT) * scale + viewOffset.y);
+        editor.show(drawingCanvas, x, y);
+    }
+
+    /**
+     * Records a batch through the tournament (one journal record, one repaint) and makes it a single undo step.
+     * @throws IllegalArgumentException / IllegalStateException if the tournament rejects the batch; nothing changes then.
+     */
+    public void recordResults(List<MatchResult> results) {
+        ResultEdit[] edits = new ResultEdit[results.size()];
+        for (int i = 0; i < edits.length; i++) edits[i] = new ResultEdit(results.get(i).getMatch());
+        tournament.recordResults(results);
+        for (ResultEdit edit : edits) edit.captureAfter();
+        if (editHistory == null || edits.length == 0) return;
+        editHistory.push(edits.length == 1 ? edits[0] : new EditHistory.Edit() {
+            // One batch each way, so the whole step is checked, journaled and rolled back as a unit
+            @Override public void undo() {
+                List<MatchState> states = new ArrayList<>(edits.length);
+                for (int i = edits.length - 1; i >= 0; i--) states.add(edits[i].before());
+                tournament.applyStates(states);
+            }
+            @Override public void redo() {
+                List<MatchState> states = new ArrayList<>(edits.length);
+                for (ResultEdit edit : edits) states.add(edit.after());
+                tournament.applyStates(states);
+            }
+            @Override public int estimatedBytes() { return 32 + edits.length * (48 + 8); }
+        });
+    }
+
+    /**
+     * Records one game of a series as its own undo step (undoing the game that decided a series undoes the result too).
+     * @throws IllegalArgumentException / IllegalStateException if the tournament rejects it; nothing changes then.
+     */
+    public void recordGame(Match match, int points1, int points2) {
+        ResultEdit result = new ResultEdit(match);
+        tournament.recordGame(match, points1, points2);
+        result.captureAfter();
+        if (editHistory == null) return;
+        int game = match.getGameCount() - 1;
+        int gamePoints1 = match.getGamePoints1(game), gamePoints2 = match.getGamePoints2(game);
+        editHistory.push(new EditHistory.Edit() {
+            // The game goes first so listeners fired by the result edit already see the right games
+            @Override public void undo() {
+                match.removeLastGame();
+                try {
+                    result.undo();
+                } catch (RuntimeException ex) {
+                    match.addGame(gamePoints1, gamePoints2);
+                    throw ex;
+                }
+            }
+            @Override public void redo() {
+                match.addGame(gamePoints1, gamePoints2);
+                try {
+                    result.redo();
+                } catch (RuntimeException ex) {
+                    match.removeLastGame();
+                    throw ex;
+                }
+            }
+            @Override public int estimatedBytes() { return 48 + 24; }
+        });
+    }
+
+    /**
+     * One event per batch. Small batches repaint just their matches (Swing merges the dirty regions into
+     * a single paint); big ones redraw the minimap once and the canvas once.
+     */
+    private void onResultsRecorded(List<Match> changed) {
+        if (layout == null) return;
+        if (changed.size() <= PARTIAL_REPAINT_LIMIT) {
+            for (Match match : changed) repaintMatch(match);
+        } else {
+            minimap.rebuild(layout);
+            repaint();
+        }
+    }
+
+    /**
+     * Undo entry for one recorded result: the scores packed into a long plus the winner, before and after.
+     * Undo/redo go back through {@link Tournament#applyStates}, so they're validated (a decided next match or a
+     * later stage can refuse), journaled and reported to listeners like any other change, and a refusal changes nothing.
+     */
+    private class ResultEdit implements EditHistory.Edit {
+        private final Match match;
+        private final long scoresBefore;
+        private final Participant winnerBefore;
+        private long scoresAfter;
+        private Participant winnerAfter;
+
+        ResultEdit(Match match) {
+            this.match = match;
+            this.scoresBefore = packScores(match);
+            this.winnerBefore = match.getWinner();
+        }
+
+        void captureAfter() {
+            this.scoresAfter = packScores(match);
+            this.winnerAfter = match.getWinner();
+        }
+
+        MatchState before() { return state(scoresBefore, winnerBefore); }
+        MatchState after() { return state(scoresAfter, winnerAfter); }
+
+        @Override public void undo() { tournament.applyStates(Collections.singletonList(before())); }
+        @Override public void redo() { tournament.applyStates(Collections.singletonList(after())); }
+        @Override public int estimatedBytes() { return 48; }
+
+        private MatchState state(long scores, Participant winner) {
+            return new MatchState(match, (int) (scores >> 32), (int) scores, winner);
+        }
+    }
+
+    private static long packScores(Match match) {
+        return ((long) match.getScore1() << 32) | (match.getScore2() & 0xFFFFFFFFL);
+    }
+
+    // --- Search ---
+
+    private JTextField createSearchField() {
+        JTextField field = new JTextField(16);
+        field.setFont(AppTheme.FONT_BODY_PLAIN);
+        field.setBackground(AppTheme.BACKGROUND_INPUT);
+        field.setForeground(AppTheme.TEXT_PRIMARY);
+        field.setCaretColor(AppTheme.TEXT_PRIMARY);
+        field.setToolTipText("Search participants (Enter jumps to the next match)");
+        field.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(AppTheme.BORDER_COLOR),
+            BorderFactory.createEmptyBorder(5, 8, 5, 8)));
+        field.addActionListener(e -> searchNext(field.getText()));
+        return field;
+    }
+
+    /**
+     * Runs a prefix search (or steps to the next hit if the query didn't change) and jumps the view to it.
+     * The index is built lazily on the first search after a bracket change.
+     */
+    private void searchNext(String query) {
+        if (tournament == null || layout == null) return;
+        if (!query.equals(lastQuery)) {
+            if (searchIndex == null) searchIndex = new MatchSearchIndex(tournament);
+            lastQuery = query;
+            searchResults = searchIndex.findMatches(query, SEARCH_PARTICIPANT_LIMIT);
+            searchPosition = -1;
+            highlightedMatches.clear();
+            highlightedMatches.addAll(searchResults);
+            searchField.setToolTipText(searchResults.isEmpty() ? "No matches found" : searchResults.size() + " matches");
+        }
+        if (searchResults.isEmpty()) {
+            repaint();
+            return;
+        }
+        searchPosition = (searchPosition + 1) % searchResults.size();
+        Match match = searchResults.get(searchPosition);
+        int index = layout.indexOfSlot(match.getRound(), match.getSlot());
+        if (index < 0) return;
+        centerOn(new Point2D.Double(layout.getX(match.getRound(), index) + MATCH_WIDTH / 2.0,
+                layout.getY(match.getRound(), index) + MATCH_HEIGHT / 2.0));
+    }
+
+    private void clearSearch() {
+        lastQuery = "";
+        searchResults = Collections.emptyList();
+        searchPosition = -1;
+        highlightedMatches.clear();
+    }
+
+    /**
+     * Creates an exporter over a snapshot of the current layout, or null if there is nothing to export.
+     */
+    BracketExporter createExporter() {
+        if (tournament == null || layout == null) return null;
+        return new BracketExporter(layout.copy());
+    }
+    
     private Point2D.Double screenToWorld(Point screenPoint) {
         return new Point2D.Double((screenPoint.x - viewOffset.x) / scale, (screenPoint.y - viewOffset.y) / scale);
     }
     
-    private void drawBracket(Graphics g) {
-        if (tournament == null || tournament.getRounds().isEmpty()) return;
+    private void drawBracket(Graphics g, int canvasWidth, int canvasHeight) {
+        if (tournament == null || layout == null) return;
+
+        long frameStart = BracketMetrics.start();
+        BracketMetrics.PaintEvent paintEvent = new BracketMetrics.PaintEvent();
+        paintEvent.begin();
+        int painted = 0;
 
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -138,78 +494,136 @@ public class BracketDisplayPanel extends JPanel {
         g2d.translate(viewOffset.x, viewOffset.y);
         g2d.scale(scale, scale);
         
+        // Only what intersects the visible part of the canvas gets painted
+        Point2D.Double topLeft = screenToWorld(new Point(0, 0));
+        Point2D.Double bottomRight = screenToWorld(new Point(canvasWidth, canvasHeight));
+        int left = (int) Math.floor(topLeft.x), top = (int) Math.floor(topLeft.y);
+        int right = (int) Math.ceil(bottomRight.x), bottom = (int) Math.ceil(bottomRight.y);
+        int roundCount = layout.getRoundCount();
+
         // Draw connectors first
-        for (Map.Entry<Match, Point> entry : matchPositions.entrySet()) {
-            Match match = entry.getKey();
-            Point pos = entry.getValue();
-            
-            if (match.getNextMatch() != null && matchPositions.containsKey(match.getNextMatch())) {
-                drawConnector(g2d, pos, matchPositions.get(match.getNextMatch()), match.getWinner() != null);
+        for (int r = 0; r < roundCount - 1; r++) {
+            for (int c = 0; c < layout.getColumnCount(r); c++) {
+                int start = layout.columnStart(r, c), end = layout.columnEnd(r, c);
+                if (start == end || !columnIntersects(layout.getX(r, start), left, right, true)) continue;
+                for (int i = layout.firstConnectorBelow(r, start, end, top); i < end; i++) {
+                    int next = layout.next(r, i);
+                    if (next < 0) continue;
+                    int fromY = layout.getY(r, i), toY = layout.getY(r + 1, next);
+                    if (Math.min(fromY, toY) > bottom) break;
+                    Match from = layout.peekMatch(r, i);
+                    drawConnector(g2d, layout.getX(r, i), fromY, layout.getX(r + 1, next), toY,
+                            from != null && from.getWinner() != null);
+                }
             }
         }
         
         // Draw matches on top
-        for (Map.Entry<Match, Point> entry : matchPositions.entrySet()) {
-            Match match = entry.getKey();
-            Point pos = entry.getValue();
-            drawMatch(g2d, match, pos);
+        for (int r = 0; r < roundCount; r++) {
+            for (int c = 0; c < layout.getColumnCount(r); c++) {
+                int start = layout.columnStart(r, c), end = layout.columnEnd(r, c);
+                if (start == end || !columnIntersects(layout.getX(r, start), left, right, false)) continue;
+                for (int i = layout.firstMatchBelow(r, start, end, top); i < end; i++) {
+                    int y = layout.getY(r, i);
+                    if (y > bottom) break;
+                    // Peek, so scrolling over empty future rounds doesn't create their matches
+                    Match match = layout.peekMatch(r, i);
+                    drawMatch(g2d, LazyRound.orUnplayed(match), layout.getX(r, i), y);
+                    painted++;
+                    if (match != null && !highlightedMatches.isEmpty() && highlightedMatches.contains(match)) {
+                        g2d.setColor(AppTheme.ACCENT_PRIMARY);
+                        g2d.setStroke(new BasicStroke(3));
+                        g2d.draw(new RoundRectangle2D.Float(layout.getX(r, i) - 3, y - 3, MATCH_WIDTH + 6, MATCH_HEIGHT + 6, 12, 12));
+                    }
+                }
+            }
+        }
+
+        int culled = layout.getTotalMatchCount() - painted;
+        BracketMetrics.recordFrame(frameStart, painted, culled);
+        if (paintEvent.shouldCommit()) {
+            paintEvent.painted = painted;
+            paintEvent.culled = culled;
+            paintEvent.commit();
         }
     }
 
-    private void calculateAllMatchPositions() {
-        matchPositions.clear();
-        if (tournament == null || tournament.getRounds().isEmpty()) return;
+    private void drawMetricsOverlay(Graphics2D g) {
+        String[] lines = BracketMetrics.overlayLines();
+        g.setFont(AppTheme.FONT_INPUT_LABEL);
+        FontMetrics fm = g.getFontMetrics();
+        int width = 0;
+        for (String line : lines) width = Math.max(width, fm.stringWidth(line));
+        g.setColor(new Color(0, 0, 0, 160));
+        g.fillRect(8, 8, width + 16, lines.length * fm.getHeight() + 12);
+        g.setColor(AppTheme.TEXT_ACCENT);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], 16, 14 + fm.getAscent() + i * fm.getHeight());
+        }
+    }
 
-        List<List<Match>> rounds = tournament.getRounds();
-        
-        // Use consistent base spacing (for that good shit) 
-        int baseSpacing = MATCH_HEIGHT + VERTICAL_GAP;
-        
-        // Calculate positions left to right (round 0 is leftmost)
-        for (int roundIndex = 0; roundIndex < rounds.size(); roundIndex++) {
-            List<Match> roundMatches = rounds.get(roundIndex);
-            int x = roundIndex * (MATCH_WIDTH + HORIZONTAL_GAP);
-            
-            for (int matchIndex = 0; matchIndex < roundMatches.size(); matchIndex++) {
-                Match match = roundMatches.get(matchIndex);
-                
-                // Calculate Y position
-                int y;
-                if (roundIndex == 0) {
-                    // First round: evenly spaced
-                    y = matchIndex * baseSpacing;
-                } else {
-                    // Later rounds: center perfectly between the two feeding matches 
-                    List<Match> prevRound = rounds.get(roundIndex - 1);
-                    int feeder1Index = matchIndex * 2;
-                    int feeder2Index = matchIndex * 2 + 1;
-                    
-                    if (feeder1Index < prevRound.size() && feeder2Index < prevRound.size()) {
-                        Point pos1 = matchPositions.get(prevRound.get(feeder1Index));
-                        Point pos2 = matchPositions.get(prevRound.get(feeder2Index));
-                        if (pos1 != null && pos2 != null) {
-                            // centering that shi: midpoint of the two match centers
-                            int center1 = pos1.y + MATCH_HEIGHT / 2;
-                            int center2 = pos2.y + MATCH_HEIGHT / 2;
-                            y = (center1 + center2) / 2 - MATCH_HEIGHT / 2;
-                        } else {
-                            y = matchIndex * baseSpacing * (int) Math.pow(2, roundIndex);
-                        }
-                    } else {
-                        y = matchIndex * baseSpacing * (int) Math.pow(2, roundIndex);
-                    }
-                }
-                
-                matchPositions.put(match, new Point(x, y));
+    /**
+     * Whether a column starting at x can show anything between left and right.
+     * Connectors stick out a full gap on either side of their column.
+     */
+    private static boolean columnIntersects(int x, int left, int right, boolean withConnectors) {
+        int reach = withConnectors ? HORIZONTAL_GAP : 0;
+        return x - reach <= right && x + MATCH_WIDTH + reach >= left;
+    }
+
+    private void calculateAllMatchPositions() {
+        layout = null;
+        if (tournament != null && !tournament.getRounds().isEmpty()) {
+            long layoutStart = BracketMetrics.start();
+            BracketMetrics.LayoutEvent layoutEvent = new BracketMetrics.LayoutEvent();
+            layoutEvent.begin();
+            layout = new BracketLayout(tournament.getRounds(), layoutStrategy);
+            BracketMetrics.recordLayout(layoutStart);
+            if (layoutEvent.shouldCommit()) {
+                layoutEvent.rounds = layout.getRoundCount();
+                layoutEvent.matches = layout.getTotalMatchCount();
+                layoutEvent.commit();
             }
         }
+        minimap.rebuild(layout);
+    }
+
+    /**
+     * Moves the view so the given world point sits in the middle of the canvas.
+     */
+    private void centerOn(Point2D.Double worldPoint) {
+        viewOffset.x = drawingCanvas.getWidth() / 2.0 - worldPoint.x * scale;
+        viewOffset.y = drawingCanvas.getHeight() / 2.0 - worldPoint.y * scale;
+        repaint();
     }
 
-    private void drawConnector(Graphics2D g2d, Point p1, Point p2, boolean hasWinner) {
-        int x1 = p1.x + MATCH_WIDTH;
-        int y1 = p1.y + MATCH_HEIGHT / 2;
-        int x2 = p2.x;
-        int y2 = p2.y + MATCH_HEIGHT / 2;
+    /**
+     * Repaints just one match after its result changed: its box on the canvas and its pixels on the minimap.
+     */
+    public void repaintMatch(Match match) {
+        if (layout == null || match.getRound() < 0 || match.getRound() >= layout.getRoundCount()) return;
+        int index = layout.indexOfSlot(match.getRound(), match.getSlot());
+        if (index < 0) return;
+        Rectangle dirtyMinimap = minimap.updateMatch(layout, match.getRound(), index);
+        if (dirtyMinimap != null) drawingCanvas.repaint(dirtyMinimap);
+        // Include the outgoing connector so its winner state is redrawn too
+        int x = (int) Math.floor(layout.getX(match.getRound(), index) * scale + viewOffset.x);
+        int y = (int) Math.floor(layout.getY(match.getRound(), index) * scale + viewOffset.y);
+        int w = (int) Math.ceil((MATCH_WIDTH + HORIZONTAL_GAP) * scale);
+        int h = (int) Math.ceil(MATCH_HEIGHT * scale);
+        drawingCanvas.repaint(x - w / 2, y - 2, w * 2, h + 4);
+    }
+
+    /**
+     * Elbow connector from a match to the one its winner advances to. Works in both directions,
+     * so it also covers layouts where a half of the bracket flows right to left.
+     */
+    static void drawConnector(Graphics2D g2d, int fromX, int fromY, int toX, int toY, boolean hasWinner) {
+        boolean forward = toX >= fromX;
+        int x1 = forward ? fromX + MATCH_WIDTH : fromX;
+        int y1 = fromY + MATCH_HEIGHT / 2;
+        int x2 = forward ? toX : toX + MATCH_WIDTH;
+        int y2 = toY + MATCH_HEIGHT / 2;
         int midX = (x1 + x2) / 2;
         
         g2d.setStroke(new BasicStroke(2.5f));
@@ -221,56 +635,51 @@ public class BracketDisplayPanel extends JPanel {
         g2d.drawLine(midX, y2, x2, y2);
     }
 
-    private void drawMatch(Graphics2D g2d, Match match, Point pos) {
+    static void drawMatch(Graphics2D g2d, Match match, int x, int y) {
         // Draw match background with color
         g2d.setColor(new Color(55, 60, 65));
-        g2d.fill(new RoundRectangle2D.Float(pos.x, pos.y, MATCH_WIDTH, MATCH_HEIGHT, 10, 10));
+        g2d.fill(new RoundRectangle2D.Float(x, y, MATCH_WIDTH, MATCH_HEIGHT, 10, 10));
         
         // Draw border 
         g2d.setColor(new Color(75, 80, 85));
         g2d.setStroke(new BasicStroke(2));
-        g2d.draw(new RoundRectangle2D.Float(pos.x, pos.y, MATCH_WIDTH, MATCH_HEIGHT, 10, 10));
+        g2d.draw(new RoundRectangle2D.Float(x, y, MATCH_WIDTH, MATCH_HEIGHT, 10, 10));
         
-        drawParticipantSlot(g2d, match.getParticipant1(), match.getScore1(), pos, 0, match.getWinner());
-        drawParticipantSlot(g2d, match.getParticipant2(), match.getScore2(), pos, 1, match.getWinner());
+        drawParticipantSlot(g2d, match.getParticipant1(), match.getScore1(), x, y, 0, match.getWinner());
+        drawParticipantSlot(g2d, match.getParticipant2(), match.getScore2(), x, y, 1, match.getWinner());
     }
 
-    private void drawParticipantSlot(Graphics2D g2d, Participant p, int score, Point pos, int slotIndex, Participant winner) {
-        int slotY = pos.y + (slotIndex * (MATCH_HEIGHT / 2));
+    private static void drawParticipantSlot(Graphics2D g2d, Participant p, int score, int x, int y, int slotIndex, Participant winner) {
+        int slotY = y + (slotIndex * (MATCH_HEIGHT / 2));
         int slotHeight = MATCH_HEIGHT / 2;
-        boolean isWinner = (p != null && p.equals(winner));
+        boolean isWinner = (p != null && p == winner);
         
         // white text para sa bulag
-        g2d.setColor(new Color(245, 245, 245));
-        Font nameFont = new Font("Segoe UI", Font.PLAIN, 15);
-        g2d.setFont(nameFont);
-        
-        String name = (p != null) ? p.getName() : "---";
-        g2d.drawString(name, pos.x + 18, slotY + slotHeight / 2 + 6);
+        g2d.setColor(AppTheme.TEXT_BRACKET);
+        int baseline = slotY + slotHeight / 2 + 6;
+        if (p != null) {
+            // Measured and ellipsized once per name and zoom level, not every frame
+            NameLayoutCache.Entry name = NameLayoutCache.get(p, g2d.getTransform().getScaleX());
+            g2d.drawGlyphVector(name.glyphs, x + NameLayoutCache.NAME_X_OFFSET, baseline);
+        } else {
+            g2d.setFont(AppTheme.FONT_BRACKET_NAME);
+            g2d.drawString("---", x + NameLayoutCache.NAME_X_OFFSET, baseline);
+        }
         
         // Draw score (still need to update)
-        g2d.setFont(new Font("Segoe UI", Font.BOLD, 15));
-        g2d.drawString(String.valueOf(score), pos.x + MATCH_WIDTH - 35, slotY + slotHeight / 2 + 6);
+        g2d.setFont(AppTheme.FONT_BRACKET_SCORE);
+        g2d.drawString(String.valueOf(score), x + MATCH_WIDTH - 35, baseline);
         
         // Draw divider line between participants
         if (slotIndex == 0) {
-            g2d.setColor(new Color(85, 90, 95));
+            g2d.setColor(AppTheme.BRACKET_DIVIDER_COLOR);
             g2d.setStroke(new BasicStroke(1.5f));
-            g2d.drawLine(pos.x + 12, pos.y + slotHeight, pos.x + MATCH_WIDTH - 12, pos.y + slotHeight);
+            g2d.drawLine(x + 12, y + slotHeight, x + MATCH_WIDTH - 12, y + slotHeight);
         }
     }
     
     private Rectangle getBracketBounds() {
-        if (matchPositions.isEmpty()) return new Rectangle(0, 0, 0, 0);
-        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
-        for (Point p : matchPositions.values()) {
-            minX = Math.min(minX, p.x);
-            minY = Math.min(minY, p.y);
-            maxX = Math.max(maxX, p.x + MATCH_WIDTH);
-            maxY = Math.max(maxY, p.y + MATCH_HEIGHT);
-        }
-        return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+        return layout != null ? layout.getBounds() : new Rectangle(0, 0, 0, 0);
     }
 
     private JPanel createHeaderFooter(String text, Color textColor, Color accentColor, int align) {
@@ -0,0 +1,217 @@
+package bracketcraft;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * -- BRACKET EXPORT --
+ * Writes what BracketDisplayPanel draws to SVG or to a grid of PNG tiles.
+ * Both formats stream round by round / tile by tile, so memory stays flat no matter how big the bracket is.
+ */
+public class BracketExporter {
+    private static final int MARGIN = 40;
+    public static final int DEFAULT_TILE_SIZE = 1024;
+
+    private final BracketLayout layout;
+    private final Rectangle bounds;
+
+    BracketExporter(BracketLayout layout) {
+        this.layout = layout;
+        this.bounds = layout.getBounds();
+        this.bounds.grow(MARGIN, MARGIN);
+    }
+
+    // --- SVG ---
+
+    /**
+     * Streams the bracket as SVG. Connectors are written first so the match boxes end up on top, same as the canvas.
+     */
+    public void writeSvg(File file) throws IOException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8))) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write(String.format("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" viewBox=\"%d %d %d %d\">\n",
+                    bounds.width, bounds.height, bounds.x, bounds.y, bounds.width, bounds.height));
+            out.write(String.format("<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"%s\"/>\n",
+                    bounds.x, bounds.y, bounds.width, bounds.height, hex(AppTheme.BACKGROUND_MAIN)));
+
+            int roundCount = layout.getRoundCount();
+            out.write("<g fill=\"none\" stroke=\"#5a5f64\" stroke-width=\"2.5\">\n");
+            for (int r = 0; r < roundCount - 1; r++) {
+                for (int i = 0; i < layout.getMatchCount(r); i++) {
+                    int next = layout.next(r, i);
+                    if (next < 0) continue;
+                    int fromX = layout.getX(r, i), toX = layout.getX(r + 1, next);
+                    boolean forward = toX >= fromX;
+                    int x1 = forward ? fromX + BracketDisplayPanel.MATCH_WIDTH : fromX;
+                    int y1 = layout.getY(r, i) + BracketDisplayPanel.MATCH_HEIGHT / 2;
+                    int x2 = forward ? toX : toX + BracketDisplayPanel.MATCH_WIDTH;
+                    int y2 = layout.getY(r + 1, next) + BracketDisplayPanel.MATCH_HEIGHT / 2;
+                    int midX = (x1 + x2) / 2;
+                    out.write(String.format("<path d=\"M%d %dH%dV%dH%d\"/>\n", x1, y1, midX, y2, x2));
+                }
+            }
+            out.write("</g>\n");
+
+            out.write("<g font-family=\"Segoe UI, sans-serif\" font-size=\"15\" fill=\"#f5f5f5\">\n");
+            for (int r = 0; r < roundCount; r++) {
+                for (int i = 0; i < layout.getMatchCount(r); i++) {
+                    writeSvgMatch(out, LazyRound.orUnplayed(layout.peekMatch(r, i)), layout.getX(r, i), layout.getY(r, i));
+                }
+            }
+            out.write("</g>\n</svg>\n");
+        }
+    }
+
+    private void writeSvgMatch(Writer out, Match match, int x, int y) throws IOException {
+        int w = BracketDisplayPanel.MATCH_WIDTH;
+        int h = BracketDisplayPanel.MATCH_HEIGHT;
+        int slotHeight = h / 2;
+        out.write(String.format("<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" rx=\"5\" fill=\"#373c41\" stroke=\"#4b5055\" stroke-width=\"2\"/>\n",
+                x, y, w, h));
+        out.write(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"#555a5f\" stroke-width=\"1.5\"/>\n",
+                x + 12, y + slotHeight, x + w - 12, y + slotHeight));
+        Participant[] slots = { match.getParticipant1(), match.getParticipant2() };
+        int[] scores = { match.getScore1(), match.getScore2() };
+        for (int i = 0; i < 2; i++) {
+            int baseline = y + i * slotHeight + slotHeight / 2 + 6;
+            String name = slots[i] != null ? NameLayoutCache.displayText(slots[i]) : "---";
+            out.write(String.format("<text x=\"%d\" y=\"%d\">%s</text>\n", x + 18, baseline, escapeXml(name)));
+            out.write(String.format("<text x=\"%d\" y=\"%d\" font-weight=\"bold\">%d</text>\n", x + w - 35, baseline, scores[i]));
+        }
+    }
+
+    // --- Tiled PNG ---
+
+    /**
+     * Renders the bracket into tileSize x tileSize PNGs named {@code <baseName>_r<row>_c<col>.png}.
+     * Tiles are independent, so they are rendered in parallel; each worker only ever holds one tile in memory.
+     * @return the number of tiles written.
+     */
+    public int writeTiledPng(File directory, String baseName, int tileSize) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create export directory: " + directory);
+        }
+        int cols = (bounds.width + tileSize - 1) / tileSize;
+        int rows = (bounds.height + tileSize - 1) / tileSize;
+
+        ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> pending = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    final int r = row, c = col;
+                    pending.add(pool.submit(() -> {
+                        renderTile(new File(directory, baseName + "_r" + r + "_c" + c + ".png"), r, c, tileSize);
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> f : pending) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException("Tile rendering failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return rows * cols;
+    }
+
+    private void renderTile(File file, int row, int col, int tileSize) throws IOException {
+        Rectangle tile = new Rectangle(bounds.x + col * tileSize, bounds.y + row * tileSize, tileSize, tileSize);
+        ImageIO.write(renderRegion(tile.intersection(bounds)), "png", file);
+    }
+
+    /** Bracket area covered by the export, margin included, in layout coordinates. */
+    Rectangle getBounds() {
+        return new Rectangle(bounds);
+    }
+
+    /**
+     * Renders one region of the bracket (layout coordinates) into memory, culling everything outside it.
+     */
+    BufferedImage renderRegion(Rectangle tile) {
+        BufferedImage image = new BufferedImage(tile.width, tile.height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setColor(AppTheme.BACKGROUND_MAIN);
+            g2d.fillRect(0, 0, tile.width, tile.height);
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.translate(-tile.x, -tile.y);
+
+            int roundCount = layout.getRoundCount();
+            for (int r = 0; r < roundCount - 1; r++) {
+                for (int c = 0; c < layout.getColumnCount(r); c++) {
+                    int end = layout.columnEnd(r, c);
+                    for (int i = layout.firstConnectorBelow(r, layout.columnStart(r, c), end, tile.y); i < end; i++) {
+                        int next = layout.next(r, i);
+                        if (next < 0) continue;
+                        int fromX = layout.getX(r, i), fromY = layout.getY(r, i);
+                        int toX = layout.getX(r + 1, next), toY = layout.getY(r + 1, next);
+                        if (Math.min(fromY, toY) > tile.y + tile.height) break;
+                        int left = Math.min(fromX, toX);
+                        int width = Math.abs(toX - fromX) + BracketDisplayPanel.MATCH_WIDTH;
+                        if (left <= tile.x + tile.width && left + width >= tile.x) {
+                            Match from = layout.peekMatch(r, i);
+                            BracketDisplayPanel.drawConnector(g2d, fromX, fromY, toX, toY, from != null && from.getWinner() != null);
+                        }
+                    }
+                }
+            }
+            for (int r = 0; r < roundCount; r++) {
+                for (int c = 0; c < layout.getColumnCount(r); c++) {
+                    int end = layout.columnEnd(r, c);
+                    for (int i = layout.firstMatchBelow(r, layout.columnStart(r, c), end, tile.y); i < end; i++) {
+                        int mx = layout.getX(r, i), my = layout.getY(r, i);
+                        if (my > tile.y + tile.height) break;
+                        if (tile.intersects(mx, my, BracketDisplayPanel.MATCH_WIDTH, BracketDisplayPanel.MATCH_HEIGHT)) {
+                            BracketDisplayPanel.drawMatch(g2d, LazyRound.orUnplayed(layout.peekMatch(r, i)), mx, my);
+                        }
+                    }
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    // --- Helpers ---
+
+    private static String hex(Color c) {
+        return String.format("#%02x%02x%02x", c.getRed(), c.getGreen(), c.getBlue());
+    }
+
+    private static String escapeXml(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '&': sb.append("&amp;"); break;
+                case '"': sb.append("&quot;"); break;
+                default: sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+}
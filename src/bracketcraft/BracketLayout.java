@@ -0,0 +1,320 @@
+package bracketcraft;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * -- LAYOUT ENGINE --
+ * Match positions stored in primitive arrays indexed by [round][index], where index is the
+ * match's position inside {@code tournament.getRounds().get(round)}.
+ * Feeder / next-match lookups go through slot tables, so they are O(1) and never touch a Match.
+ * Where things actually go on screen is decided by a pluggable {@link Strategy}.
+ * Positions depend only on which slots exist (the draw and its byes), never on names or results, so a layout
+ * stays valid until the bracket is regenerated; that builds a new one.
+ */
+public class BracketLayout {
+
+    /**
+     * Decides where a single match goes. Feeders (round - 1) are always placed before their next match,
+     * so a strategy can read them straight from the layout.
+     */
+    public interface Strategy {
+        void place(BracketLayout layout, int round, int index);
+    }
+
+    /** The classic layout: round 0 on the left, the final on the far right. */
+    public static final Strategy LEFT_TO_RIGHT = (layout, round, index) -> {
+        layout.x[round][index] = round * BracketLayout.COLUMN_WIDTH;
+        layout.y[round][index] = layout.centeredY(round, index, layout.baseRow(round, index) * BracketLayout.ROW_HEIGHT);
+    };
+
+    /**
+     * Two-sided layout: the top half of the draw flows left to right, the bottom half right to left,
+     * and both converge on the final in the middle. Same number of rows per side as half a normal bracket,
+     * so large fields take roughly half the canvas.
+     */
+    public static final Strategy MIRRORED = (layout, round, index) -> {
+        int lastRound = layout.getRoundCount() - 1;
+        int column;
+        int rowOffset = 0;
+        if (round == lastRound) {
+            column = round;
+        } else if (layout.isRightSide(round, index)) {
+            column = 2 * lastRound - round;
+            rowOffset = layout.rightSideFirstRow();
+        } else {
+            column = round;
+        }
+        layout.x[round][index] = column * BracketLayout.COLUMN_WIDTH;
+        layout.y[round][index] = layout.centeredY(round, index, (layout.baseRow(round, index) - rowOffset) * BracketLayout.ROW_HEIGHT);
+    };
+
+    static final int COLUMN_WIDTH = BracketDisplayPanel.MATCH_WIDTH + BracketDisplayPanel.HORIZONTAL_GAP;
+    static final int ROW_HEIGHT = BracketDisplayPanel.MATCH_HEIGHT + BracketDisplayPanel.VERTICAL_GAP;
+
+    private final List<List<Match>> rounds;
+    private final Strategy strategy;
+    final int[][] x;
+    final int[][] y;
+    private final int[][] slotOfIndex;
+    private final int[][] indexOfSlot;
+    private final int[] baseRows;
+    private final int[][] columnStarts;
+    private final Rectangle bounds = new Rectangle();
+
+    public BracketLayout(List<List<Match>> rounds, Strategy strategy) {
+        this.rounds = rounds;
+        this.strategy = strategy;
+        int roundCount = rounds.size();
+        this.x = new int[roundCount][];
+        this.y = new int[roundCount][];
+        this.slotOfIndex = new int[roundCount][];
+        this.indexOfSlot = new int[roundCount][];
+
+        // Round r of a 2^R bracket has 2^(R-1-r) slots; only round 0 can have holes (byes).
+        for (int r = 0; r < roundCount; r++) {
+            List<Match> round = rounds.get(r);
+            int slotCount = 1 << (roundCount - 1 - r);
+            x[r] = new int[round.size()];
+            y[r] = new int[round.size()];
+            slotOfIndex[r] = new int[round.size()];
+            indexOfSlot[r] = new int[slotCount];
+            Arrays.fill(indexOfSlot[r], -1);
+            for (int i = 0; i < round.size(); i++) {
+                int slot = LazyRound.slotAt(round, i);
+                if (slot < 0) slot = i;
+                slotOfIndex[r][i] = slot;
+                if (slot < slotCount) indexOfSlot[r][slot] = i;
+            }
+        }
+        this.baseRows = computeBaseRows();
+        this.columnStarts = new int[roundCount][];
+        layoutAll();
+    }
+
+    private BracketLayout(BracketLayout other) {
+        this.rounds = other.rounds;
+        this.strategy = other.strategy;
+        this.x = deepCopy(other.x);
+        this.y = deepCopy(other.y);
+        this.slotOfIndex = other.slotOfIndex;
+        this.indexOfSlot = other.indexOfSlot;
+        this.baseRows = other.baseRows;
+        this.columnStarts = other.columnStarts;
+        this.bounds.setBounds(other.bounds);
+    }
+
+    /** A snapshot whose positions won't move if this layout is later re-laid out (used by background export). */
+    public BracketLayout copy() {
+        return new BracketLayout(this);
+    }
+
+    // --- Structure queries (all O(1)) ---
+
+    public int getRoundCount() { return x.length; }
+    public int getMatchCount(int round) { return x[round].length; }
+
+    public int getTotalMatchCount() {
+        int total = 0;
+        for (int[] round : x) total += round.length;
+        return total;
+    }
+    public Match getMatch(int round, int index) { return rounds.get(round).get(index); }
+    /** Like getMatch, but null for a lazy match nothing has touched yet, instead of creating it. */
+    public Match peekMatch(int round, int index) { return LazyRound.peek(rounds.get(round), index); }
+    public int getX(int round, int index) { return x[round][index]; }
+    public int getY(int round, int index) { return y[round][index]; }
+    public int getSlot(int round, int index) { return slotOfIndex[round][index]; }
+
+    /** Number of slots the round would have in a full bracket (holes included). */
+    public int getSlotCount(int round) { return indexOfSlot[round].length; }
+
+    /** Index inside the round of the match sitting in the given slot, or -1 for a bye. */
+    public int indexOfSlot(int round, int slot) {
+        return slot >= 0 && slot < indexOfSlot[round].length ? indexOfSlot[round][slot] : -1;
+    }
+
+    /** Index (in round - 1) of the feeder on the given side (0 = top, 1 = bottom), or -1 if that side is a bye. */
+    public int feeder(int round, int index, int side) {
+        if (round == 0) return -1;
+        return indexOfSlot[round - 1][(slotOfIndex[round][index] << 1) | side];
+    }
+
+    /** Index (in round + 1) of the match the winner advances to, or -1 for the final. */
+    public int next(int round, int index) {
+        if (round + 1 >= x.length) return -1;
+        return indexOfSlot[round + 1][slotOfIndex[round][index] >> 1];
+    }
+
+    public Rectangle getBounds() { return new Rectangle(bounds); }
+
+    /** True if the match belongs to the bottom half of the draw (the right-hand side of a mirrored layout). */
+    public boolean isRightSide(int round, int index) {
+        return slotOfIndex[round][index] >= (indexOfSlot[round].length >> 1) && round < x.length - 1;
+    }
+
+    /** Base row where the bottom half of the draw starts. */
+    int rightSideFirstRow() {
+        if (x.length < 2) return 0;
+        return baseRows[x[0].length + (indexOfSlot[1].length >> 1)];
+    }
+
+    // --- Columns & culling ---
+    // A column is a run of matches in one round sharing the same x. Inside a column y only grows,
+    // so what's visible can be binary searched instead of scanning the whole round.
+
+    public int getColumnCount(int round) { return columnStarts[round].length - 1; }
+    public int columnStart(int round, int column) { return columnStarts[round][column]; }
+    public int columnEnd(int round, int column) { return columnStarts[round][column + 1]; }
+
+    /**
+     * The match whose box contains the world point, or null. One binary search per column the point falls into.
+     * A lazy match nothing has touched yet counts as null too; it has nobody in it to click on.
+     */
+    public Match matchAt(double worldX, double worldY) {
+        for (int r = 0; r < x.length; r++) {
+            for (int c = 0; c < getColumnCount(r); c++) {
+                int start = columnStart(r, c), end = columnEnd(r, c);
+                if (start == end || worldX < x[r][start] || worldX > x[r][start] + BracketDisplayPanel.MATCH_WIDTH) continue;
+                int i = firstMatchBelow(r, start, end, (int) Math.floor(worldY));
+                if (i < end && worldY >= y[r][i] && worldY <= y[r][i] + BracketDisplayPanel.MATCH_HEIGHT) {
+                    return peekMatch(r, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /** First index in [start, end) whose match box reaches down to {@code top}. */
+    public int firstMatchBelow(int round, int start, int end, int top) {
+        int lo = start, hi = end;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (y[round][mid] + BracketDisplayPanel.MATCH_HEIGHT < top) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** First index in [start, end) whose connector to the next round reaches down to {@code top}. */
+    public int firstConnectorBelow(int round, int start, int end, int top) {
+        int lo = start, hi = end;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int next = next(round, mid);
+            int lowest = next >= 0 ? Math.max(y[round][mid], y[round + 1][next]) : y[round][mid];
+            if (lowest + BracketDisplayPanel.MATCH_HEIGHT < top) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Row (in units of {@link #ROW_HEIGHT}) a match would take if nothing feeds it. Only meaningful for the
+     * first two rounds: round 0 matches sit next to the round 1 match they feed instead of bunching up at the top.
+     */
+    public int baseRow(int round, int index) {
+        if (round == 0) return baseRows[index];
+        if (round == 1) return baseRows[x[0].length + slotOfIndex[1][index]];
+        return index;
+    }
+
+    private int[] computeBaseRows() {
+        int firstRoundCount = x.length > 0 ? x[0].length : 0;
+        if (x.length < 2) {
+            int[] rows = new int[firstRoundCount];
+            for (int i = 0; i < rows.length; i++) rows[i] = i;
+            return rows;
+        }
+        // [0, firstRoundCount) -> round 0 by index, then round 1 by slot
+        int secondRoundSlots = indexOfSlot[1].length;
+        int[] rows = new int[firstRoundCount + secondRoundSlots];
+        int row = 0;
+        for (int s = 0; s < secondRoundSlots; s++) {
+            rows[firstRoundCount + s] = row;
+            int fed = 0;
+            for (int side = 0; side < 2; side++) {
+                int feeder = indexOfSlot[0][(s << 1) | side];
+                if (feeder >= 0) rows[feeder] = row + fed++;
+            }
+            row += Math.max(fed, 1);
+        }
+        return rows;
+    }
+
+    // --- Layout ---
+
+    private void layoutAll() {
+        for (int r = 0; r < x.length; r++) {
+            for (int i = 0; i < x[r].length; i++) {
+                strategy.place(this, r, i);
+            }
+        }
+        updateBounds();
+    }
+
+    private void updateColumns(int round) {
+        int count = 1;
+        for (int i = 1; i < x[round].length; i++) {
+            if (x[round][i] != x[round][i - 1]) count++;
+        }
+        int[] starts = new int[count + 1];
+        int c = 1;
+        for (int i = 1; i < x[round].length; i++) {
+            if (x[round][i] != x[round][i - 1]) starts[c++] = i;
+        }
+        starts[count] = x[round].length;
+        columnStarts[round] = starts;
+    }
+
+    /**
+     * Y for a match centered between its feeders. With one feeder (the other side is a bye) it lines up with that feeder,
+     * with none it falls back to {@code fallback}. Never overlaps the match above it, so each round stays sorted by y.
+     */
+    int centeredY(int round, int index, int fallback) {
+        int half = BracketDisplayPanel.MATCH_HEIGHT / 2;
+        int f1 = feeder(round, index, 0);
+        int f2 = feeder(round, index, 1);
+        int value;
+        if (f1 >= 0 && f2 >= 0) {
+            value = ((y[round - 1][f1] + half) + (y[round - 1][f2] + half)) / 2 - half;
+        } else if (f1 >= 0) {
+            value = y[round - 1][f1];
+        } else if (f2 >= 0) {
+            value = y[round - 1][f2];
+        } else {
+            value = fallback;
+        }
+        if (index > 0 && sameColumn(round, index - 1, index)) {
+            value = Math.max(value, y[round][index - 1] + ROW_HEIGHT);
+        }
+        return value;
+    }
+
+    private boolean sameColumn(int round, int a, int b) {
+        return x[round][a] == x[round][b];
+    }
+
+    private void updateBounds() {
+        for (int r = 0; r < x.length; r++) updateColumns(r);
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int r = 0; r < x.length; r++) {
+            for (int i = 0; i < x[r].length; i++) {
+                minX = Math.min(minX, x[r][i]);
+                minY = Math.min(minY, y[r][i]);
+                maxX = Math.max(maxX, x[r][i] + BracketDisplayPanel.MATCH_WIDTH);
+                maxY = Math.max(maxY, y[r][i] + BracketDisplayPanel.MATCH_HEIGHT);
+            }
+        }
+        if (minX == Integer.MAX_VALUE) bounds.setBounds(0, 0, 0, 0);
+        else bounds.setBounds(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    private static int[][] deepCopy(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
+    }
+}
@@ -0,0 +1,237 @@
+package bracketcraft;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * -- INSTRUMENTATION --
+ * Counters for bracket generation, layout and painting, plus matching JDK Flight Recorder events.
+ *
+ * Counters are only collected with {@code -Dbracketcraft.metrics=true}; ENABLED is a static final so the
+ * JIT folds every check away when it's off. When they're on, they're published over JMX as
+ * {@code bracketcraft:type=Metrics} (see {@link #register()}), so jconsole, VisualVM or any JMX scraper can read them.
+ * The JFR events follow the usual JFR rules: they cost next to nothing unless a recording has them enabled.
+ */
+public final class BracketMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("bracketcraft.metrics");
+
+    private static final LongAdder bracketsGenerated = new LongAdder();
+    private static final LongAdder generateNanos = new LongAdder();
+    private static final LongAdder layoutsComputed = new LongAdder();
+    private static final LongAdder layoutNanos = new LongAdder();
+    private static final LongAdder framesPainted = new LongAdder();
+    private static final LongAdder paintNanos = new LongAdder();
+    private static final LongAdder matchesPainted = new LongAdder();
+    private static final LongAdder matchesCulled = new LongAdder();
+    private static final LongAdder previewRegenerations = new LongAdder();
+    private static final LongAdder pickemRescores = new LongAdder();
+    private static final LongAdder pickemRescoreNanos = new LongAdder();
+
+    private static volatile long lastGenerateNanos;
+    private static volatile long lastLayoutNanos;
+    private static volatile long lastFrameNanos;
+    private static volatile int lastFramePainted;
+    private static volatile int lastFrameCulled;
+    private static volatile long lastPickemRescoreNanos;
+    private static volatile long firstPaintNanos = -1;
+    private static volatile long firstPaintSinceJvmStartNanos = -1;
+    private static volatile String jmxProblem;   // shown in the overlay if register() failed
+
+    private BracketMetrics() {}
+
+    // --- JFR events ---
+
+    @Name("bracketcraft.GenerateBracket")
+    @Label("Generate Bracket")
+    @Category("BracketCraft")
+    static class GenerateEvent extends Event {
+        @Label("Bracket Type") String bracketType;
+        @Label("Participants") int participants;
+        @Label("Matches") int matches;
+    }
+
+    @Name("bracketcraft.Layout")
+    @Label("Bracket Layout")
+    @Category("BracketCraft")
+    static class LayoutEvent extends Event {
+        @Label("Rounds") int rounds;
+        @Label("Matches") int matches;
+    }
+
+    @Name("bracketcraft.Paint")
+    @Label("Bracket Paint")
+    @Category("BracketCraft")
+    static class PaintEvent extends Event {
+        @Label("Matches Painted") int painted;
+        @Label("Matches Culled") int culled;
+    }
+
+    @Name("bracketcraft.PreviewRegeneration")
+    @Label("Preview Regeneration")
+    @Category("BracketCraft")
+    static class PreviewEvent extends Event {
+        @Label("Participants") int participants;
+    }
+
+    @Name("bracketcraft.FirstPaint")
+    @Label("First Paint")
+    @Category("BracketCraft")
+    static class FirstPaintEvent extends Event {
+        @Label("Since Main (ns)") long sinceMain;
+        @Label("Since JVM Start (ns)") long sinceJvmStart;
+    }
+
+    @Name("bracketcraft.PickemRescore")
+    @Label("Pick'em Rescore")
+    @Category("BracketCraft")
+    static class PickemRescoreEvent extends Event {
+        @Label("Entries") int entries;
+    }
+
+    // --- Recording ---
+
+    /** Start timestamp for a measured section, or 0 when counters are off. */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    static void recordGenerate(long startNanos) {
+        if (!ENABLED) return;
+        long elapsed = System.nanoTime() - startNanos;
+        bracketsGenerated.increment();
+        generateNanos.add(elapsed);
+        lastGenerateNanos = elapsed;
+    }
+
+    static void recordLayout(long startNanos) {
+        if (!ENABLED) return;
+        long elapsed = System.nanoTime() - startNanos;
+        layoutsComputed.increment();
+        layoutNanos.add(elapsed);
+        lastLayoutNanos = elapsed;
+    }
+
+    static void recordFrame(long startNanos, int painted, int culled) {
+        if (!ENABLED) return;
+        long elapsed = System.nanoTime() - startNanos;
+        framesPainted.increment();
+        paintNanos.add(elapsed);
+        matchesPainted.add(painted);
+        matchesCulled.add(culled);
+        lastFrameNanos = elapsed;
+        lastFramePainted = painted;
+        lastFrameCulled = culled;
+    }
+
+    static void recordPreviewRegeneration() {
+        if (!ENABLED) return;
+        previewRegenerations.increment();
+    }
+
+    static void recordPickemRescore(long startNanos, int entries) {
+        if (!ENABLED) return;
+        long elapsed = System.nanoTime() - startNanos;
+        pickemRescores.increment();
+        pickemRescoreNanos.add(elapsed);
+        lastPickemRescoreNanos = elapsed;
+    }
+
+    /**
+     * Time from main() (and from JVM start, -1 if the OS won't say) to the window's first paint.
+     * Always kept, not just with counters on, since it's a one-off; also emitted as a JFR event.
+     */
+    static void recordFirstPaint(long sinceMainNanos, long sinceJvmStartNanos) {
+        firstPaintNanos = sinceMainNanos;
+        firstPaintSinceJvmStartNanos = sinceJvmStartNanos;
+        FirstPaintEvent event = new FirstPaintEvent();
+        if (event.shouldCommit()) {
+            event.sinceMain = sinceMainNanos;
+            event.sinceJvmStart = sinceJvmStartNanos;
+            event.commit();
+        }
+    }
+
+    // --- Scraping ---
+
+    /** What JMX clients see. */
+    public interface MetricsMXBean {
+        /** {@link BracketMetrics#snapshot()}. */
+        Map<String, Long> getCounters();
+        /** {@link BracketMetrics#formatText()}. */
+        String getText();
+    }
+
+    /**
+     * Publishes the counters as the platform MBean {@code bracketcraft:type=Metrics}. Does nothing unless
+     * counters are on, or if it's already registered.
+     */
+    public static void register() {
+        if (!ENABLED) return;
+        try {
+            ObjectName name = new ObjectName("bracketcraft:type=Metrics");
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) return;
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMXBean() {
+                @Override public Map<String, Long> getCounters() { return snapshot(); }
+                @Override public String getText() { return formatText(); }
+            }, name);
+        } catch (JMException ex) {
+            jmxProblem = "JMX unavailable: " + ex.getMessage();
+        }
+    }
+
+    /**
+     * Current counter values, in a stable order. Times are in nanoseconds.
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("brackets_generated_total", bracketsGenerated.sum());
+        values.put("generate_nanos_total", generateNanos.sum());
+        values.put("layouts_computed_total", layoutsComputed.sum());
+        values.put("layout_nanos_total", layoutNanos.sum());
+        values.put("frames_painted_total", framesPainted.sum());
+        values.put("paint_nanos_total", paintNanos.sum());
+        values.put("matches_painted_total", matchesPainted.sum());
+        values.put("matches_culled_total", matchesCulled.sum());
+        values.put("preview_regenerations_total", previewRegenerations.sum());
+        values.put("pickem_rescores_total", pickemRescores.sum());
+        values.put("pickem_rescore_nanos_total", pickemRescoreNanos.sum());
+        values.put("pickem_last_rescore_nanos", lastPickemRescoreNanos);
+        values.put("first_paint_nanos", firstPaintNanos);
+        values.put("first_paint_since_jvm_start_nanos", firstPaintSinceJvmStartNanos);
+        return values;
+    }
+
+    /** The snapshot as "name value" lines, ready to be served to a scraper. */
+    public static String formatText() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : snapshot().entrySet()) {
+            sb.append("bracketcraft_").append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Short lines for the in-app overlay. */
+    static String[] overlayLines() {
+        List<String> lines = new ArrayList<>(5);
+        lines.add(String.format("frame %.2f ms  painted %d  culled %d", lastFrameNanos / 1e6, lastFramePainted, lastFrameCulled));
+        lines.add(String.format("generate %.2f ms  layout %.2f ms", lastGenerateNanos / 1e6, lastLayoutNanos / 1e6));
+        lines.add(String.format("previews %d  frames %d", previewRegenerations.sum(), framesPainted.sum()));
+        if (firstPaintNanos >= 0) {
+            lines.add(String.format("first paint %.1f ms after main, %.1f ms after JVM start",
+                    firstPaintNanos / 1e6, firstPaintSinceJvmStartNanos / 1e6));
+        }
+        if (jmxProblem != null) lines.add(jmxProblem);
+        return lines.toArray(new String[0]);
+    }
+}
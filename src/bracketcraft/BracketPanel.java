@@ -11,6 +11,8 @@ public class BracketPanel extends JPanel {
     private JTextField bracketNameField;
     private JTextField sportGameField;
     private JComboBox<String> bracketTypeComboBox;
+    private JComboBox<String> seedingComboBox;
+    private JComboBox<String> seriesComboBox;
     private JButton rulesButton;
 
     public BracketPanel(MainFrame mainFrame) {
@@ -23,6 +25,15 @@ public class BracketPanel extends JPanel {
     public String getSelectedBracketType() {
         return (String) bracketTypeComboBox.getSelectedItem();
     }
+
+    public boolean isSeedByRating() {
+        return "By Rating".equals(seedingComboBox.getSelectedItem());
+    }
+
+    /** Games per match: 1, 3, 5 or 7. */
+    public int getBestOf() {
+        return 1 + 2 * seriesComboBox.getSelectedIndex();
+    }
     
     /**
      * -- Disables all controls on this panel --
@@ -32,12 +43,16 @@ public class BracketPanel extends JPanel {
         bracketNameField.setEditable(enabled);
         sportGameField.setEditable(enabled);
         bracketTypeComboBox.setEnabled(enabled);
+        seedingComboBox.setEnabled(enabled);
+        seriesComboBox.setEnabled(enabled);
         
         // Change visuals to indicate disabled state
         Color bgColor = enabled ? AppTheme.BACKGROUND_INPUT : AppTheme.BACKGROUND_SIDEBAR;
         bracketNameField.setBackground(bgColor);
         sportGameField.setBackground(bgColor);
         bracketTypeComboBox.setBackground(bgColor);
+        seedingComboBox.setBackground(bgColor);
+        seriesComboBox.setBackground(bgColor);
     }
 
     private void initComponents() {
@@ -65,11 +80,53 @@ public class BracketPanel extends JPanel {
         this.bracketTypeComboBox = createComboBox(new String[]{"Single Elimination", "Double Elimination"}); 
         add(this.bracketTypeComboBox, gbc);
 
+        gbc.gridy = y++; add(createInputLabel("Seeding"), gbc);
+        gbc.gridy = y++;
+        this.seedingComboBox = createComboBox(new String[]{"Manual", "By Rating"});
+        seedingComboBox.addActionListener(e -> mainFrame.updateLiveBracketPreview());
+        add(seedingComboBox, gbc);
+
+        gbc.gridy = y++; add(createInputLabel("Series"), gbc);
+        gbc.gridy = y++;
+        this.seriesComboBox = createComboBox(new String[]{"Single Game", "Best of 3", "Best of 5", "Best of 7"});
+        add(seriesComboBox, gbc);
+
+        gbc.gridy = y++; add(createInputLabel("Bracket View"), gbc);
+        gbc.gridy = y++;
+        JComboBox<String> bracketViewComboBox = createComboBox(new String[]{"Left to Right", "Mirrored"});
+        bracketViewComboBox.addActionListener(e -> mainFrame.setBracketView((String) bracketViewComboBox.getSelectedItem()));
+        add(bracketViewComboBox, gbc);
+
         gbc.gridy = y++; add(createInputLabel("Sport / Game"), gbc);
         gbc.gridy = y++; sportGameField = createTextField(""); add(sportGameField, gbc);
 
         gbc.gridy = y++;
-        this.rulesButton = new JButton("View/Edit Rules") {
+        this.rulesButton = createSecondaryButton("View/Edit Rules");
+        rulesButton.addActionListener(e -> mainFrame.showRulesDialog());
+        add(rulesButton, gbc);
+
+        gbc.gridy = y++;
+        JButton exportButton = createSecondaryButton("Export Bracket...");
+        exportButton.addActionListener(e -> mainFrame.exportBracket());
+        add(exportButton, gbc);
+
+        gbc.gridy = y++;
+        JButton importButton = createSecondaryButton("Import Results (CSV)...");
+        importButton.addActionListener(e -> mainFrame.importResults());
+        add(importButton, gbc);
+
+        gbc.gridy = y++;
+        JButton headToHeadButton = createSecondaryButton("Head-to-Head...");
+        headToHeadButton.addActionListener(e -> mainFrame.showHeadToHead());
+        add(headToHeadButton, gbc);
+        
+        gbc.weighty = 1.0;
+        gbc.gridy = y++;
+        add(new JLabel(), gbc);
+    }
+    
+    private JButton createSecondaryButton(String text) {
+        JButton button = new JButton(text) {
             @Override
             protected void paintComponent(Graphics g) {
                 g.setColor(getBackground());
@@ -77,24 +134,18 @@ public class BracketPanel extends JPanel {
                 super.paintComponent(g);
             }
         };
-        rulesButton.setFont(AppTheme.FONT_BUTTON);
-        rulesButton.setBackground(AppTheme.BACKGROUND_INPUT);
-        rulesButton.setForeground(AppTheme.TEXT_PRIMARY);
-        rulesButton.setFocusPainted(false);
-        rulesButton.setBorder(BorderFactory.createCompoundBorder(
+        button.setFont(AppTheme.FONT_BUTTON);
+        button.setBackground(AppTheme.BACKGROUND_INPUT);
+        button.setForeground(AppTheme.TEXT_PRIMARY);
+        button.setFocusPainted(false);
+        button.setBorder(BorderFactory.createCompoundBorder(
             BorderFactory.createLineBorder(AppTheme.BORDER_COLOR),
             BorderFactory.createEmptyBorder(8, 8, 8, 8)));
-        rulesButton.setOpaque(true);
-        rulesButton.setContentAreaFilled(false);
-        
-        rulesButton.addActionListener(e -> mainFrame.showRulesDialog());
-        add(rulesButton, gbc);
-        
-        gbc.weighty = 1.0;
-        gbc.gridy = y++;
-        add(new JLabel(), gbc);
+        button.setOpaque(true);
+        button.setContentAreaFilled(false);
+        return button;
     }
-    
+
     private JLabel createHeaderLabel(String text) {
         JLabel label = new JLabel(text);
         label.setFont(AppTheme.FONT_H1);
@@ -121,6 +172,18 @@ public class BracketPanel extends JPanel {
         return tf;
     }
 
+    // UIManager defaults are global, so they only need writing once, not per combo box
+    private static boolean comboDefaultsInstalled = false;
+
+    private static void installComboDefaults() {
+        if (comboDefaultsInstalled) return;
+        UIManager.put("ComboBox.background", AppTheme.BACKGROUND_INPUT);
+        UIManager.put("ComboBox.foreground", AppTheme.TEXT_PRIMARY);
+        UIManager.put("ComboBox.selectionBackground", AppTheme.BACKGROUND_SIDEBAR_HOVER);
+        UIManager.put("ComboBox.selectionForeground", AppTheme.TEXT_PRIMARY);
+        comboDefaultsInstalled = true;
+    }
+
     private JComboBox<String> createComboBox(String[] items) {
         JComboBox<String> cb = new JComboBox<>(items);
         cb.setFont(AppTheme.FONT_BODY_PLAIN);
@@ -129,10 +192,7 @@ public class BracketPanel extends JPanel {
         cb.setBorder(BorderFactory.createLineBorder(AppTheme.BORDER_COLOR));
         cb.setOpaque(true);
         
-        UIManager.put("ComboBox.background", AppTheme.BACKGROUND_INPUT);
-        UIManager.put("ComboBox.foreground", AppTheme.TEXT_PRIMARY);
-        UIManager.put("ComboBox.selectionBackground", AppTheme.BACKGROUND_SIDEBAR_HOVER);
-        UIManager.put("ComboBox.selectionForeground", AppTheme.TEXT_PRIMARY);
+        installComboDefaults();
 
         cb.setUI(new BasicComboBoxUI() {
             @Override
@@ -0,0 +1,198 @@
+package bracketcraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * -- BRACKET QUERIES --
+ * "When could A and B meet?" and "who can A play next?", answered from draw positions instead of by walking matches.
+ *
+ * Every entrant has a first-round position (0 .. bracketSize - 1). Two positions share a round-r match exactly when
+ * they agree on every bit above bit r and differ at bit r, so the meeting round is the highest set bit of
+ * {@code posA ^ posB}, and A's possible round-r opponents are the contiguous block {@code ((posA >> r) ^ 1) << r},
+ * {@code 1 << r} positions long. Both are a couple of instructions; nothing here touches a Match.
+ *
+ * Built from the first round (and the byes in the second), like {@link BracketSimulator}. The draw never changes
+ * once generated, except when an {@link EventPipeline} seats a qualifier; build a new one after that.
+ */
+public class BracketQueries {
+    private final Tournament tournament;
+    private final int roundCount;
+    private final Participant[] entrants;     // per first-round position; null on the empty side of a bye
+    private final Map<Participant, Integer> positions = new IdentityHashMap<>();
+
+    public BracketQueries(Tournament tournament) {
+        List<List<Match>> rounds = tournament.getRounds();
+        if (rounds.isEmpty()) throw new IllegalStateException("Generate the bracket first.");
+        this.tournament = tournament;
+        this.roundCount = rounds.size();
+        int participantCount = tournament.getParticipants().size();
+        this.entrants = new Participant[Integer.highestOneBit(participantCount - 1) << 1];
+
+        for (Match match : rounds.get(0)) {
+            place(match.getSlot() << 1, match.getParticipant1());
+            place((match.getSlot() << 1) | 1, match.getParticipant2());
+        }
+        // Byes: the better seed always sits on the even position of the pair
+        for (int slot = tournament.nextFirstRoundBye(0); slot >= 0; slot = tournament.nextFirstRoundBye(slot + 1)) {
+            place(slot << 1, byeEntrant(slot));
+        }
+    }
+
+    private Participant byeEntrant(int slot) {
+        if (roundCount == 1) return tournament.getQualifier(slot);
+        Match next = LazyRound.peek(tournament.getRounds().get(1), slot >> 1);
+        if (next == null) return null;
+        return (slot & 1) == 0 ? next.getParticipant1() : next.getParticipant2();
+    }
+
+    private void place(int position, Participant participant) {
+        if (participant == null) return;
+        entrants[position] = participant;
+        positions.put(participant, position);
+    }
+
+    public int getRoundCount() { return roundCount; }
+    public int getPositionCount() { return entrants.length; }
+
+    /** Entrant drawn at a first-round position, or null for the empty side of a bye. */
+    public Participant entrantAt(int position) {
+        return entrants[position];
+    }
+
+    public int positionOf(Participant participant) {
+        Integer position = positions.get(participant);
+        if (position == null) throw new IllegalArgumentException("Not in this bracket: " + participant);
+        return position;
+    }
+
+    // --- Single queries ---
+
+    /**
+     * Round (0 = first) in which the two would meet if both keep winning, or -1 if they can't: the same entrant,
+     * or a qualifier stage that stops before their halves come together.
+     */
+    public int meetingRound(Participant a, Participant b) {
+        return meetingRound(positionOf(a), positionOf(b));
+    }
+
+    private int meetingRound(int positionA, int positionB) {
+        int diff = positionA ^ positionB;
+        if (diff == 0) return -1;
+        int round = 31 - Integer.numberOfLeadingZeros(diff);
+        return round < roundCount ? round : -1;
+    }
+
+    /** The match they'd meet in, or null if they can't meet or nobody has reached it yet. */
+    public Match meetingMatch(Participant a, Participant b) {
+        int round = meetingRound(a, b);
+        return round < 0 ? null : matchAt(round, positionOf(a) >> (round + 1));
+    }
+
+    /** First position of the block {@code participant}'s round-{@code round} opponents come from; it's {@code 1 << round} long. */
+    public int opponentBlockStart(Participant participant, int round) {
+        checkRound(round);
+        return ((positionOf(participant) >> round) ^ 1) << round;
+    }
+
+    /** Everyone drawn into the other half of the participant's round-{@code round} match, whatever has been played since. */
+    public List<Participant> potentialOpponents(Participant participant, int round) {
+        int start = opponentBlockStart(participant, round);
+        List<Participant> opponents = new ArrayList<>(1 << round);
+        for (int p = start; p < start + (1 << round); p++) {
+            if (entrants[p] != null) opponents.add(entrants[p]);
+        }
+        return opponents;
+    }
+
+    /**
+     * Who the participant can still face in their next match, given the results so far: the opponent if already
+     * known, otherwise everyone still alive in the other half. Empty once they're out or have nothing left to play.
+     * Costs one lookup per round played plus the undecided part of the other half.
+     */
+    public List<Participant> nextOpponents(Participant participant) {
+        int position = positionOf(participant);
+        for (int round = 0; round < roundCount; round++) {
+            Match match = matchAt(round, position >> (round + 1));
+            if (match == null && round == 0) continue;   // a bye
+            if (match != null && match.getWinner() != null) {
+                if (match.getWinner() != participant) return Collections.emptyList();
+                continue;
+            }
+            boolean top = ((position >> round) & 1) == 0;
+            Participant known = match == null ? null : top ? match.getParticipant2() : match.getParticipant1();
+            if (known != null) return Collections.singletonList(known);
+            List<Participant> alive = new ArrayList<>();
+            collectAlive(round - 1, ((position >> round) ^ 1), alive);
+            return alive;
+        }
+        return Collections.emptyList();
+    }
+
+    /** Everyone who can still come out of the given match. */
+    private void collectAlive(int round, int slot, List<Participant> out) {
+        Match match = matchAt(round, slot);
+        if (match != null && match.getWinner() != null) {
+            out.add(match.getWinner());
+            return;
+        }
+        if (round == 0) {
+            if (match != null) {
+                out.add(match.getParticipant1());
+                out.add(match.getParticipant2());
+            } else if (entrants[slot << 1] != null) {
+                out.add(entrants[slot << 1]);
+            }
+            return;
+        }
+        // A side that's already filled is settled; only the open ones need the feeder
+        Participant top = match == null ? null : match.getParticipant1();
+        Participant bottom = match == null ? null : match.getParticipant2();
+        if (top != null) out.add(top); else collectAlive(round - 1, slot << 1, out);
+        if (bottom != null) out.add(bottom); else collectAlive(round - 1, (slot << 1) | 1, out);
+    }
+
+    private Match matchAt(int round, int slot) {
+        return round == 0 ? tournament.findMatch(0, slot) : LazyRound.peek(tournament.getRounds().get(round), slot);
+    }
+
+    private void checkRound(int round) {
+        if (round < 0 || round >= roundCount) throw new IllegalArgumentException("No round " + round + " in this bracket.");
+    }
+
+    // --- Bulk ---
+
+    /** {@link #meetingRound} for many pairs at once ({@code a[i]} with {@code b[i]}), across all cores. */
+    public int[] meetingRounds(Participant[] a, Participant[] b) {
+        if (a.length != b.length) throw new IllegalArgumentException("Every participant needs a partner.");
+        int[] positionsA = new int[a.length], positionsB = new int[b.length];
+        // Map lookups first, on this thread; the arithmetic is what runs in parallel
+        for (int i = 0; i < a.length; i++) {
+            positionsA[i] = positionOf(a[i]);
+            positionsB[i] = positionOf(b[i]);
+        }
+        int[] rounds = new int[a.length];
+        IntStream.range(0, a.length).parallel().forEach(i -> rounds[i] = meetingRound(positionsA[i], positionsB[i]));
+        return rounds;
+    }
+
+    /**
+     * Every entrant's potential opponents in every round, as block starts: {@code [position][round]}, each block
+     * {@code 1 << round} positions long (resolve with {@link #entrantAt}). Rows for the empty side of a bye are null.
+     * n log n ints rather than the n^2 participants the sets would hold if spelled out.
+     */
+    public int[][] allOpponentBlocks() {
+        int[][] blocks = new int[entrants.length][];
+        IntStream.range(0, entrants.length).parallel().forEach(position -> {
+            if (entrants[position] == null) return;
+            int[] row = new int[roundCount];
+            for (int round = 0; round < roundCount; round++) row[round] = ((position >> round) ^ 1) << round;
+            blocks[position] = row;
+        });
+        return blocks;
+    }
+}
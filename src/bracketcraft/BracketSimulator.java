@@ -0,0 +1,142 @@
+package bracketcraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * -- MONTE CARLO SIMULATOR --
+ * Plays the single-elimination bracket out millions of times to estimate how far each entrant gets.
+ *
+ * The bracket is flattened once into a heap-ordered int array (node 1 is the final, node k's children are 2k and 2k+1,
+ * leaves are the first-round slots), so a simulation is just one pass over an int[] with no Match objects.
+ * Results already recorded are forced; everything else is an Elo coin flip. Work is split across all cores,
+ * each worker with its own SplittableRandom and its own counters.
+ */
+public class BracketSimulator {
+    private final List<Participant> participants;
+    private final Map<Participant, Integer> participantIndex = new IdentityHashMap<>();
+    private final int roundCount;
+    private final int bracketSize;
+    private final int[] leaves;        // participant index per first-round slot, -1 for a bye
+    private final int[] forcedWinner;  // per heap node: participant index if already decided, else -1
+    private final int[] nodeRound;     // per heap node: round index (0 = first round)
+    private final double[] strength;   // 10^(rating / 400)
+    private final long seed;
+
+    private final long[] reachCounts;  // [participant * (roundCount + 1) + roundsWon]
+    private long simulations = 0;
+
+    /**
+     * @param ratings one Elo-style rating per entrant, in {@code tournament.getParticipants()} order.
+     */
+    public BracketSimulator(Tournament tournament, double[] ratings, long seed) {
+        this.participants = new ArrayList<>(tournament.getParticipants());
+        for (int i = 0; i < participants.size(); i++) participantIndex.put(participants.get(i), i);
+        this.seed = seed;
+        List<List<Match>> rounds = tournament.getRounds();
+        this.roundCount = rounds.size();
+        this.bracketSize = 1 << roundCount;
+        this.leaves = new int[bracketSize];
+        this.forcedWinner = new int[bracketSize];
+        this.nodeRound = new int[bracketSize];
+        Arrays.fill(leaves, -1);
+        Arrays.fill(forcedWinner, -1);
+
+        this.strength = new double[participants.size()];
+        for (int i = 0; i < strength.length; i++) {
+            strength[i] = Math.pow(10, (ratings != null && i < ratings.length ? ratings[i] : 1500) / 400.0);
+        }
+
+        for (int r = 0; r < roundCount; r++) {
+            int firstNode = bracketSize >> (r + 1);
+            for (int node = firstNode; node < firstNode << 1; node++) nodeRound[node] = r;
+            for (Match match : LazyRound.materialized(rounds.get(r))) {
+                int node = firstNode + match.getSlot();
+                // Entrants sitting in a match whose feeder doesn't exist came in on a bye; pin them to a leaf
+                placeEntrant(r, match.getSlot(), 0, match.getParticipant1(), tournament);
+                placeEntrant(r, match.getSlot(), 1, match.getParticipant2(), tournament);
+                if (match.getWinner() != null) forcedWinner[node] = indexOf(match.getWinner());
+            }
+        }
+        this.reachCounts = new long[participants.size() * (roundCount + 1)];
+    }
+
+    private void placeEntrant(int round, int slot, int side, Participant p, Tournament tournament) {
+        if (p == null) return;
+        int childSlot = (slot << 1) | side;
+        // Only second-round entrants can have skipped a feeder, and only through a recorded bye
+        if (round > 1 || (round == 1 && !tournament.isFirstRoundBye(childSlot))) return;
+        // Leaf index of the top-most first-round slot under this side
+        leaves[childSlot << round] = indexOf(p);
+    }
+
+    private int indexOf(Participant p) {
+        Integer i = participantIndex.get(p);
+        if (i == null) throw new IllegalArgumentException("Unknown participant: " + p);
+        return i;
+    }
+
+    /**
+     * Runs another batch of simulations (spread over all cores) and folds them into the running totals.
+     */
+    public synchronized void run(int count) {
+        int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), count));
+        SplittableRandom master = new SplittableRandom(seed + simulations);
+        SplittableRandom[] randoms = new SplittableRandom[workers];
+        for (int w = 0; w < workers; w++) randoms[w] = master.split();
+
+        long[][] partials = IntStream.range(0, workers).parallel()
+                .mapToObj(w -> simulate(randoms[w], count / workers + (w < count % workers ? 1 : 0)))
+                .toArray(long[][]::new);
+        for (long[] partial : partials) {
+            for (int i = 0; i < reachCounts.length; i++) reachCounts[i] += partial[i];
+        }
+        simulations += count;
+    }
+
+    private long[] simulate(SplittableRandom random, int iterations) {
+        long[] counts = new long[reachCounts.length];
+        int[] winners = new int[bracketSize];
+        int stride = roundCount + 1;
+        for (int it = 0; it < iterations; it++) {
+            for (int node = bracketSize - 1; node >= 1; node--) {
+                int left = node << 1, right = left | 1;
+                int a = left >= bracketSize ? leaves[left - bracketSize] : winners[left];
+                int b = right >= bracketSize ? leaves[right - bracketSize] : winners[right];
+                int winner;
+                if (forcedWinner[node] >= 0) winner = forcedWinner[node];
+                else if (a < 0) winner = b;
+                else if (b < 0) winner = a;
+                else winner = random.nextDouble() * (strength[a] + strength[b]) < strength[a] ? a : b;
+                winners[node] = winner;
+                if (winner >= 0) counts[winner * stride + nodeRound[node] + 1]++;
+            }
+        }
+        return counts;
+    }
+
+    // --- Results ---
+
+    public synchronized long getSimulationCount() { return simulations; }
+    public int getRoundCount() { return roundCount; }
+    public List<Participant> getParticipants() { return participants; }
+
+    /**
+     * Probability that the entrant wins at least {@code roundsWon} matches (roundCount = champion).
+     * Byes count as a win, like they do on the bracket.
+     */
+    public synchronized double getProbability(int participantIndex, int roundsWon) {
+        if (roundsWon == 0) return 1.0;
+        if (simulations == 0) return 0;
+        return (double) reachCounts[participantIndex * (roundCount + 1) + roundsWon] / simulations;
+    }
+
+    public double getChampionProbability(int participantIndex) {
+        return getProbability(participantIndex, roundCount);
+    }
+}
@@ -0,0 +1,76 @@
+package bracketcraft;
+
+import java.util.ArrayDeque;
+
+/**
+ * -- UNDO / REDO LOG --
+ * Every edit is a small command that knows how to undo and redo itself from a compact delta (a packed score,
+ * a couple of references, a permutation...), never a copy of the whole tournament.
+ * The log is capped by an estimated byte budget; when it runs over, the oldest edits are dropped first.
+ */
+public class EditHistory {
+
+    public interface Edit {
+        void undo();
+        void redo();
+        /** Rough number of bytes this edit keeps alive, counted against the budget. */
+        int estimatedBytes();
+    }
+
+    private final ArrayDeque<Edit> undoStack = new ArrayDeque<>();
+    private final ArrayDeque<Edit> redoStack = new ArrayDeque<>();
+    private final long budgetBytes;
+    private long usedBytes = 0;
+
+    public EditHistory(long budgetBytes) {
+        if (budgetBytes <= 0) throw new IllegalArgumentException("The history budget must be positive.");
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Records an edit that has already been applied. Anything that was undone is no longer redoable.
+     */
+    public void push(Edit edit) {
+        while (!redoStack.isEmpty()) usedBytes -= redoStack.pollLast().estimatedBytes();
+        undoStack.addLast(edit);
+        usedBytes += edit.estimatedBytes();
+        // Always keep the newest edit, even if it alone is over budget
+        while (usedBytes > budgetBytes && undoStack.size() > 1) {
+            usedBytes -= undoStack.pollFirst().estimatedBytes();
+        }
+    }
+
+    /**
+     * @return false if there was nothing to undo.
+     * @throws RuntimeException whatever the edit threw; it stays on the undo stack so it can be retried.
+     */
+    public boolean undo() {
+        Edit edit = undoStack.peekLast();
+        if (edit == null) return false;
+        edit.undo();
+        redoStack.addLast(undoStack.pollLast());
+        return true;
+    }
+
+    /**
+     * @return false if there was nothing to redo.
+     * @throws RuntimeException whatever the edit threw; it stays on the redo stack so it can be retried.
+     */
+    public boolean redo() {
+        Edit edit = redoStack.peekLast();
+        if (edit == null) return false;
+        edit.redo();
+        undoStack.addLast(redoStack.pollLast());
+        return true;
+    }
+
+    public boolean canUndo() { return !undoStack.isEmpty(); }
+    public boolean canRedo() { return !redoStack.isEmpty(); }
+    public long getUsedBytes() { return usedBytes; }
+
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        usedBytes = 0;
+    }
+}
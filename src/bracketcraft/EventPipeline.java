@@ -0,0 +1,182 @@
+package bracketcraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * -- MULTI-STAGE EVENT --
+ * Qualifiers -> ... -> playoffs, each stage its own {@link Tournament}, linked so a qualifier goes into the next
+ * stage the moment their spot is decided. Later stages are generated up front with placeholder entrants, and a
+ * match there can be played as soon as both of its sides are real, whatever the rest of the earlier stage is doing.
+ *
+ * Advancement is incremental: every qualifying match knows the one slot it feeds, so a result touches that slot
+ * and nothing else, no stage is ever regenerated. Correcting a qualifying result moves the new winner in, unless
+ * the match they'd be placed in has been played already; then the correction is refused, like inside a bracket.
+ */
+public class EventPipeline {
+
+    /** One bracket of the event. Entrants are seeded in the order they're added. */
+    public final class Stage {
+        private final String name;
+        private final int qualifiers;
+        private final List<Participant> entrants = new ArrayList<>();
+        private final Tournament tournament;
+
+        private Stage(String name, int qualifiers) {
+            this.name = name;
+            this.qualifiers = qualifiers;
+            this.tournament = new Tournament(name, Collections.emptyList());
+            tournament.setQualifierCount(qualifiers);
+        }
+
+        public Stage addEntrant(Participant participant) {
+            checkNotGenerated();
+            entrants.add(participant);
+            return this;
+        }
+
+        /**
+         * Reserves the next seeds for every qualifier of an earlier stage, in qualifier order.
+         */
+        public Stage addQualifiersFrom(Stage source) {
+            checkNotGenerated();
+            if (!stages.contains(source) || stages.indexOf(source) >= stages.indexOf(this)) {
+                throw new IllegalArgumentException("Qualifiers can only come from an earlier stage.");
+            }
+            if (source.qualifiers == 1) {
+                throw new IllegalArgumentException(source.name + " plays down to a champion; give it more than one qualifier.");
+            }
+            for (int i = 0; i < source.qualifiers; i++) {
+                Participant placeholder = Participant.placeholder(source.name + " Q" + (i + 1));
+                entrants.add(placeholder);
+                feeds.add(new Feed(source, i, this, placeholder));
+            }
+            return this;
+        }
+
+        public String getName() { return name; }
+        public Tournament getTournament() { return tournament; }
+    }
+
+    /** Qualifier spot {@code index} of {@code from} -> the seat held by {@code placeholder} in {@code to}. */
+    private static final class Feed {
+        final Stage from, to;
+        final int index;
+        final Participant placeholder;
+        Match target;        // where the placeholder sits in the later stage
+        boolean topSide;
+
+        Feed(Stage from, int index, Stage to, Participant placeholder) {
+            this.from = from;
+            this.index = index;
+            this.to = to;
+            this.placeholder = placeholder;
+        }
+
+        Participant occupant() {
+            return topSide ? target.getParticipant1() : target.getParticipant2();
+        }
+
+        void seat(Participant participant) {
+            if (topSide) target.setParticipant1(participant);
+            else target.setParticipant2(participant);
+        }
+    }
+
+    private final List<Stage> stages = new ArrayList<>();
+    private final List<Feed> feeds = new ArrayList<>();
+    private final Map<Match, Feed> feedOf = new IdentityHashMap<>();  // qualifying match -> the seat it fills
+    private boolean generated = false;
+
+    /**
+     * @param qualifiers how many move on (a power of two), or 1 for the stage that crowns the champion.
+     */
+    public Stage addStage(String name, int qualifiers) {
+        checkNotGenerated();
+        Stage stage = new Stage(name, qualifiers);
+        stages.add(stage);
+        return stage;
+    }
+
+    public List<Stage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * Generates every stage once and wires the stages together. Qualifiers that are already known (first-round
+     * byes of a one-round stage) are seated right away.
+     */
+    public void generate() {
+        checkNotGenerated();
+        for (Stage stage : stages) {
+            stage.tournament.setParticipants(new ArrayList<>(stage.entrants));
+            stage.tournament.generateBracket("Single Elimination");
+            if (stage.tournament.getRounds().isEmpty()) {
+                throw new IllegalStateException(stage.name + " needs at least 2 entrants.");
+            }
+        }
+
+        // Find each placeholder's seat, one pass per receiving stage
+        Map<Participant, Feed> byPlaceholder = new IdentityHashMap<>();
+        for (Feed feed : feeds) byPlaceholder.put(feed.placeholder, feed);
+        for (Stage stage : stages) {
+            for (List<Match> round : stage.tournament.getRounds()) {
+                for (Match m : LazyRound.materialized(round)) {
+                    Feed top = byPlaceholder.get(m.getParticipant1());
+                    if (top != null) { top.target = m; top.topSide = true; }
+                    Feed bottom = byPlaceholder.get(m.getParticipant2());
+                    if (bottom != null) { bottom.target = m; bottom.topSide = false; }
+                }
+            }
+        }
+
+        for (Feed feed : feeds) {
+            Match qualifying = feed.from.tournament.getQualifyingMatch(feed.index);
+            if (qualifying != null) feedOf.put(qualifying, feed);
+            else advance(feed, feed.from.tournament.getQualifier(feed.index));
+        }
+        for (Stage stage : stages) {
+            if (stage.qualifiers == 1) continue;
+            stage.tournament.setAdvancementCheck(this::checkAdvancement);
+            stage.tournament.addTournamentListener(this::onResultsRecorded);
+        }
+        generated = true;
+    }
+
+    // --- Streaming ---
+
+    private void checkAdvancement(Match match, Participant newWinner) {
+        Feed feed = feedOf.get(match);
+        if (feed != null && feed.target.getWinner() != null) {
+            throw new IllegalStateException(feed.to.name + " has already played the match this result feeds; correct it first.");
+        }
+    }
+
+    private void onResultsRecorded(List<Match> changed) {
+        for (Match match : changed) {
+            Feed feed = feedOf.get(match);
+            if (feed != null) advance(feed, match.getWinner());
+        }
+    }
+
+    /** Seats the qualifier (or the placeholder again, if the result was taken back) and tells the later stage. */
+    private void advance(Feed feed, Participant qualifier) {
+        Participant seated = qualifier != null ? qualifier : feed.placeholder;
+        if (feed.occupant() == seated) return;
+        feed.seat(seated);
+        feed.to.tournament.fireMatchesChanged(Collections.singletonList(feed.target));
+    }
+
+    /** True once both sides of the match are real entrants, so it can be played. */
+    public static boolean isReady(Match match) {
+        Participant p1 = match.getParticipant1(), p2 = match.getParticipant2();
+        return p1 != null && p2 != null && !p1.isPlaceholder() && !p2.isPlaceholder();
+    }
+
+    private void checkNotGenerated() {
+        if (generated) throw new IllegalStateException("The event has already been generated.");
+    }
+}
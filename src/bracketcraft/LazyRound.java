@@ -0,0 +1,112 @@
+package bracketcraft;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+/**
+ * -- LAZY ROUND --
+ * A full bracket round (slot == index) whose matches only exist once something asks for them: a winner moving in
+ * through {@link Match#getNextMatch()}, a bye, or the renderer drawing it. Until then a slot is just a null in an
+ * array, so a million-entrant bracket doesn't carry half a million empty future matches around.
+ *
+ * To everyone else it's a normal List; code that only cares about matches with something in them
+ * (participants, winners) should go through {@link #materialized(List)} or {@link #peek(List, int)} instead,
+ * so it doesn't create every match just to find out it's empty.
+ */
+final class LazyRound extends AbstractList<Match> implements RandomAccess, Serializable {
+    // Stands in for untouched slots when drawing; never handed to anything that could change it
+    private static final Match UNPLAYED = new Match();
+
+    private final int round;
+    private final Match[] matches;
+    private final LazyRound next;   // the round these matches feed, null for the final
+    private int materialized = 0;
+
+    LazyRound(int round, int size, LazyRound next) {
+        this.round = round;
+        this.matches = new Match[size];
+        this.next = next;
+    }
+
+    @Override
+    public Match get(int index) {
+        Match m = matches[index];
+        if (m == null) {
+            m = new Match();
+            m.setPosition(round, index);
+            m.setNextRound(next);
+            matches[index] = m;
+            materialized++;
+        }
+        return m;
+    }
+
+    @Override
+    public int size() {
+        return matches.length;
+    }
+
+    /** How many of this round's matches have been created so far. */
+    int getMaterializedCount() {
+        return materialized;
+    }
+
+    /** A copy of this round feeding {@code next}, holding {@code copyMatch}'s copy of each existing match. */
+    LazyRound copy(LazyRound next, UnaryOperator<Match> copyMatch) {
+        LazyRound copy = new LazyRound(round, matches.length, next);
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i] != null) copy.matches[i] = copyMatch.apply(matches[i]);
+        }
+        copy.materialized = materialized;
+        return copy;
+    }
+
+    // --- Peeking without creating ---
+
+    /** The match at {@code index} if it exists (any ordinary list), null if it's a lazy slot nobody touched. */
+    static Match peek(List<Match> round, int index) {
+        return round instanceof LazyRound ? ((LazyRound) round).matches[index] : round.get(index);
+    }
+
+    /** What to draw for a peeked slot: the match, or an empty one if it doesn't exist yet. */
+    static Match orUnplayed(Match match) {
+        return match != null ? match : UNPLAYED;
+    }
+
+    /** The slot of the match at {@code index}, without creating it. */
+    static int slotAt(List<Match> round, int index) {
+        return round instanceof LazyRound ? index : round.get(index).getSlot();
+    }
+
+    /** The round's existing matches, in order; an untouched lazy match can't hold anything worth visiting. */
+    static Iterable<Match> materialized(List<Match> round) {
+        if (!(round instanceof LazyRound)) return round;
+        Match[] matches = ((LazyRound) round).matches;
+        return () -> new Iterator<Match>() {
+            private int i = advance(0);
+
+            private int advance(int from) {
+                while (from < matches.length && matches[from] == null) from++;
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return i < matches.length;
+            }
+
+            @Override
+            public Match next() {
+                if (i >= matches.length) throw new NoSuchElementException();
+                Match m = matches[i];
+                i = advance(i + 1);
+                return m;
+            }
+        };
+    }
+}
@@ -3,10 +3,20 @@ package bracketcraft;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 public class MainFrame extends javax.swing.JFrame {
 
@@ -15,20 +25,50 @@ public class MainFrame extends javax.swing.JFrame {
     private ParticipantsPanel participantsPanel;
     private BracketPanel bracketPanel;
     private BracketDisplayPanel bracketDisplayPanel;
+    private SimulationPanel simulationPanel;
 
     private boolean isInfoPanelVisible = true;
-    private Timer animationTimer;
+    private AnimationScheduler.Animation sidebarAnimation;
     private static final int INFO_PANEL_WIDTH = 350;
     private static final int ANIMATION_DURATION_MS = 200;
     
     private boolean isTournamentGenerated = false;
     private Tournament currentTournament;
+    private final ParticipantRegistry participantRegistry = new ParticipantRegistry();
+    private final SeedModel previewSeeds = new SeedModel();
+    private static final long EDIT_HISTORY_BUDGET_BYTES = 4L * 1024 * 1024;
+    private final EditHistory editHistory = new EditHistory(EDIT_HISTORY_BUDGET_BYTES);
+
+    private ResultsArchive resultsArchive;
+    private boolean tournamentArchived = false;
+    private final RatingEngine ratingEngine = new RatingEngine();
+    private Map<String, Double> historicalRatings = new HashMap<>();
+
+    // --- Replication (-Dbracketcraft.replicationPort=N on the primary, -Dbracketcraft.standbyOf=host:port on the standby) ---
+    // Both need the same secret, from BRACKETCRAFT_REPLICATION_SECRET (or -Dbracketcraft.replicationSecret, which
+    // other users can see in the process list). The primary listens on loopback unless -Dbracketcraft.replicationBind=ADDRESS.
+    private static final Integer REPLICATION_PORT = Integer.getInteger("bracketcraft.replicationPort");
+    private static final String REPLICATION_BIND = System.getProperty("bracketcraft.replicationBind");
+    private static final String STANDBY_OF = System.getProperty("bracketcraft.standbyOf");
+    private ReplicationPrimary replicationPrimary;
+    private ReplicationStandby replicationStandby;
+
+    // --- Station schedule (-Dbracketcraft.stations=N, optionally -Dbracketcraft.minutesPerMatch=M) ---
+    private static final Integer STATIONS = Integer.getInteger("bracketcraft.stations");
+    private static final int MINUTES_PER_MATCH = Integer.getInteger("bracketcraft.minutesPerMatch", 20);
+
+    // --- Startup ---
+    private static long launchNanos;
+    private static final boolean CDS_TRAINING = Boolean.getBoolean("bracketcraft.cdsTraining");
+    private boolean firstPaintRecorded = false;
 
     public MainFrame() {
         this.currentTournament = new Tournament("Untitled Bracket", new ArrayList<>());
         initComponents();
         
         updateLiveBracketPreview();
+        loadHistoricalRatings();
+        if (STANDBY_OF != null) startStandby(STANDBY_OF);
     }
 
     private void initComponents() {
@@ -42,6 +82,7 @@ public class MainFrame extends javax.swing.JFrame {
         iconSidebar.setPreferredSize(new Dimension(70, 0));
         iconSidebar.add(createNavButton("Bracket Information", "resources/bracket_icon.png"));
         iconSidebar.add(createNavButton("Participants", "resources/participants_icon.png"));
+        iconSidebar.add(createNavButton("Win Odds", "resources/odds_icon.png"));
         iconSidebar.add(Box.createVerticalGlue());
         iconSidebar.add(createNavButton("Settings", "resources/settings_icon.png"));
         iconSidebar.add(createNavButton("Back", "resources/back_icon.png"));
@@ -55,35 +96,86 @@ public class MainFrame extends javax.swing.JFrame {
         infoContainerPanel = new JPanel(infoCardLayout);
         infoContainerPanel.setPreferredSize(new Dimension(INFO_PANEL_WIDTH, 0));
 
+        // Only the card that's visible at launch is built now; the others on first open (see showInfoCard)
         bracketPanel = new BracketPanel(this);
-        participantsPanel = new ParticipantsPanel(this); 
-        
         infoContainerPanel.add(bracketPanel, "Bracket Information");
-        infoContainerPanel.add(participantsPanel, "Participants");
 
         bracketDisplayPanel = new BracketDisplayPanel();
+        bracketDisplayPanel.setEditHistory(editHistory);
         mainContentArea.add(infoContainerPanel, BorderLayout.WEST);
         mainContentArea.add(bracketDisplayPanel, BorderLayout.CENTER);
 
+        installUndoKeys();
+
         pack();
         setLocationRelativeTo(null);
     }
 
+    private void installUndoKeys() {
+        InputMap inputMap = getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        ActionMap actionMap = getRootPane().getActionMap();
+        int menuMask = Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx();
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, menuMask), "undo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Y, menuMask), "redo");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_Z, menuMask | InputEvent.SHIFT_DOWN_MASK), "redo");
+        actionMap.put("undo", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) { runHistoryStep(true); }
+        });
+        actionMap.put("redo", new AbstractAction() {
+            @Override public void actionPerformed(ActionEvent e) { runHistoryStep(false); }
+        });
+    }
+
+    // The tournament can refuse a step (a later match is already decided); say why and leave the history as it was
+    private void runHistoryStep(boolean undo) {
+        try {
+            if (undo) editHistory.undo(); else editHistory.redo();
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), undo ? "Can't Undo" : "Can't Redo", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    public EditHistory getEditHistory() {
+        return editHistory;
+    }
+
     /**
      * Generates a temporary bracket preview.
      */
     public void updateLiveBracketPreview() {
         if (isTournamentGenerated) return;
-
-        List<String> participantNames = participantsPanel.getParticipantNames();
+        List<String> participantNames = getParticipantNames();
         List<Participant> participants = new ArrayList<>();
-        participantNames.forEach(name -> participants.add(new Participant(name)));
-        
-        Tournament previewTournament = new Tournament(bracketPanel.getBracketName(), participants);
+        participantNames.forEach(name -> participants.add(internParticipant(name)));
+        previewSeeds.reset(participants);
+        regeneratePreview();
+    }
+
+    /**
+     * A seed was dragged to a new position: shift the existing seed order instead of re-reading every row.
+     */
+    public void moveSeed(int from, int to) {
+        if (isTournamentGenerated) return;
+        previewSeeds.move(from, to);
+        regeneratePreview();
+    }
+
+    private void regeneratePreview() {
+        BracketMetrics.recordPreviewRegeneration();
+        BracketMetrics.PreviewEvent previewEvent = new BracketMetrics.PreviewEvent();
+        previewEvent.begin();
+
+        Tournament previewTournament = new Tournament(bracketPanel.getBracketName(), previewSeeds.asList());
+        previewTournament.setSeedByRating(bracketPanel.isSeedByRating());
         previewTournament.generateBracket("Single Elimination");
         
         bracketDisplayPanel.setTournament(previewTournament);
         bracketDisplayPanel.setSportName(bracketPanel.getSportGameName());
+
+        if (previewEvent.shouldCommit()) {
+            previewEvent.participants = previewSeeds.size();
+            previewEvent.commit();
+        }
     }
 
     /**
@@ -95,27 +187,39 @@ public class MainFrame extends javax.swing.JFrame {
             return;
         }
         
-        List<String> participantNames = participantsPanel.getParticipantNames();
+        List<String> participantNames = getParticipantNames();
         if (participantNames.size() < 2) {
             JOptionPane.showMessageDialog(this, "You need at least 2 participants to start.", "Error", JOptionPane.ERROR_MESSAGE);
             return;
         }
         
+        if (new HashSet<>(participantNames).size() != participantNames.size()) {
+            JOptionPane.showMessageDialog(this, "Participant names must be unique.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        
         currentTournament.setTournamentName(bracketPanel.getBracketName());
         List<Participant> participants = new ArrayList<>();
-        participantNames.forEach(name -> participants.add(new Participant(name)));
+        participantNames.forEach(name -> participants.add(internParticipant(name)));
         currentTournament.setParticipants(participants);
+        currentTournament.setSeedByRating(bracketPanel.isSeedByRating());
         
         String bracketType = bracketPanel.getSelectedBracketType();
         currentTournament.generateBracket(bracketType);
         
         if (currentTournament.getRounds().isEmpty()) return;
+        int bestOf = bracketPanel.getBestOf();
+        for (int r = 0; r < currentTournament.getRounds().size(); r++) currentTournament.setBestOf(r, bestOf);
 
         bracketDisplayPanel.setTournament(currentTournament);
         bracketDisplayPanel.setSportName(bracketPanel.getSportGameName());
         
         this.isTournamentGenerated = true;
-        participantsPanel.setControlsEnabled(false);
+        goLive();
+        // Seeding and rules are locked from here on, so their undo entries no longer apply
+        editHistory.clear();
+        bracketDisplayPanel.setResultEntryEnabled(true);
+        if (participantsPanel != null) participantsPanel.setControlsEnabled(false);
         bracketPanel.setControlsEnabled(false);
         
         if (isInfoPanelVisible) {
@@ -123,34 +227,395 @@ public class MainFrame extends javax.swing.JFrame {
         }
     }
     
+    /** The participants list, or the default rows if the panel hasn't been opened yet. */
+    private List<String> getParticipantNames() {
+        return participantsPanel != null ? participantsPanel.getParticipantNames() : new ArrayList<>(ParticipantsPanel.DEFAULT_PARTICIPANTS);
+    }
+
+    /**
+     * Shows a sidebar card, building it the first time it's asked for.
+     */
+    private void showInfoCard(String name) {
+        if ("Participants".equals(name) && participantsPanel == null) {
+            participantsPanel = new ParticipantsPanel(this);
+            participantsPanel.setControlsEnabled(!isTournamentGenerated);
+            infoContainerPanel.add(participantsPanel, name);
+        } else if ("Win Odds".equals(name) && simulationPanel == null) {
+            simulationPanel = new SimulationPanel(this);
+            infoContainerPanel.add(simulationPanel, name);
+        }
+        infoCardLayout.show(infoContainerPanel, name);
+    }
+
+    /**
+     * Records time-to-first-paint once. In CDS training mode (see the "cds" Ant target) the app exits right after,
+     * so the archive holds exactly the classes a normal launch needs.
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (firstPaintRecorded) return;
+        firstPaintRecorded = true;
+        long sinceMain = System.nanoTime() - launchNanos;
+        long sinceJvmStart = ProcessHandle.current().info().startInstant()
+                .map(start -> java.time.Duration.between(start, java.time.Instant.now()).toNanos())
+                .orElse(-1L);
+        // Shows up in the metrics overlay and as a JFR event
+        BracketMetrics.recordFirstPaint(sinceMain, sinceJvmStart);
+        if (CDS_TRAINING) {
+            // Let the paint finish before the JVM dumps the archive on exit
+            EventQueue.invokeLater(() -> System.exit(0));
+        }
+    }
+
     public boolean isTournamentGenerated() {
         return this.isTournamentGenerated;
     }
 
+    /**
+     * The bracket on screen: the live preview before the start, the real tournament after.
+     */
+    public Tournament getDisplayedTournament() {
+        return bracketDisplayPanel.getTournament();
+    }
+
+    /**
+     * Only changes how the bracket is drawn, so it's allowed even after the tournament has started.
+     */
+    public void setBracketView(String view) {
+        bracketDisplayPanel.setLayoutStrategy("Mirrored".equals(view) ? BracketLayout.MIRRORED : BracketLayout.LEFT_TO_RIGHT);
+    }
+
     public void showRulesDialog() {
-        RulesDialog dialog = new RulesDialog(this, isTournamentGenerated, currentTournament);
+        RulesDialog dialog = new RulesDialog(this, isTournamentGenerated, currentTournament, editHistory);
         dialog.setVisible(true);
     }
 
+    /**
+     * Exports the bracket currently on screen. ".svg" files get a single vector file,
+     * anything else is treated as a folder of PNG tiles. Runs off the EDT so big brackets don't freeze the UI.
+     */
+    public void exportBracket() {
+        BracketExporter exporter = bracketDisplayPanel.createExporter();
+        if (exporter == null) {
+            JOptionPane.showMessageDialog(this, "There is no bracket to export yet.", "Export", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export Bracket (name.svg for vector, a folder name for PNG tiles)");
+        chooser.setSelectedFile(new File(bracketPanel.getBracketName().replaceAll("[^A-Za-z0-9 _-]", "").trim() + ".svg"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File target = chooser.getSelectedFile();
+        boolean svg = target.getName().toLowerCase().endsWith(".svg");
+
+        new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() throws Exception {
+                if (svg) {
+                    exporter.writeSvg(target);
+                    return "Exported to " + target.getAbsolutePath();
+                }
+                int tiles = exporter.writeTiledPng(target, "bracket", BracketExporter.DEFAULT_TILE_SIZE);
+                return "Exported " + tiles + " PNG tiles to " + target.getAbsolutePath();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    JOptionPane.showMessageDialog(MainFrame.this, get(), "Export", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(MainFrame.this, "Export failed: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Journals results next to the user's other BracketCraft files. Not being able to journal isn't fatal,
+     * the tournament just runs without one.
+     */
+    private void openResultJournal() {
+        File dir = new File(System.getProperty("user.home"), ".bracketcraft");
+        String fileName = currentTournament.getTournamentName().replaceAll("[^A-Za-z0-9 _-]", "").trim();
+        File file = new File(dir, (fileName.isEmpty() ? "bracket" : fileName) + "-results.journal");
+        try {
+            currentTournament.setResultJournal(new ResultJournal(file));
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Results won't be journaled: " + ex.getMessage(), "Journal", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    // --- History ---
+
+    private File archiveBase() {
+        return new File(new File(System.getProperty("user.home"), ".bracketcraft"), "history");
+    }
+
+    /** The archive, opened on first use. Null (after telling the user) if it can't be opened. */
+    private ResultsArchive getResultsArchive() {
+        if (resultsArchive == null) {
+            try {
+                resultsArchive = new ResultsArchive(archiveBase());
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "The results history is unavailable: " + ex.getMessage(), "History", JOptionPane.WARNING_MESSAGE);
+            }
+        }
+        return resultsArchive;
+    }
+
+    /**
+     * Replays the whole archive into fresh ratings in the background, then hands them to everyone already
+     * registered. Participants registered later pick theirs up in {@link #internParticipant}.
+     */
+    private void loadHistoricalRatings() {
+        File base = archiveBase();
+        if (!new File(base.getPath() + ".results").isFile()) return;
+        new SwingWorker<Map<String, Double>, Void>() {
+            @Override
+            protected Map<String, Double> doInBackground() throws Exception {
+                try (ResultsArchive archive = new ResultsArchive(base)) {
+                    return RatingEngine.recompute(archive);
+                }
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    historicalRatings = get();
+                } catch (Exception ex) {
+                    return; // No history, no ratings; everyone starts at the default
+                }
+                // Once the tournament is running the live ratings are already ahead of the archive
+                if (isTournamentGenerated) return;
+                for (int i = 0; i < participantRegistry.size(); i++) {
+                    Participant p = participantRegistry.get(i);
+                    Double rating = historicalRatings.get(p.getName());
+                    if (rating != null) p.setRating(rating);
+                }
+                if (bracketPanel.isSeedByRating()) regeneratePreview();
+            }
+        }.execute();
+    }
+
+    private Participant internParticipant(String name) {
+        int registered = participantRegistry.size();
+        Participant p = participantRegistry.intern(name);
+        if (participantRegistry.size() > registered) {
+            Double rating = historicalRatings.get(name);
+            if (rating != null) p.setRating(rating);
+        }
+        return p;
+    }
+
+    /**
+     * Once the final is decided the tournament goes into the history archive, once. Undoing the final afterwards
+     * doesn't take it back out.
+     */
+    private void archiveIfFinished() {
+        if (tournamentArchived) return;
+        List<List<Match>> rounds = currentTournament.getRounds();
+        if (rounds.isEmpty() || rounds.get(rounds.size() - 1).get(0).getWinner() == null) return;
+        ResultsArchive archive = getResultsArchive();
+        if (archive == null) return;
+        try {
+            archive.append(currentTournament, System.currentTimeMillis());
+            tournamentArchived = true;
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not archive the results: " + ex.getMessage(), "History", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    /**
+     * Asks for two participants and shows their careers and their head-to-head from the archive.
+     */
+    public void showHeadToHead() {
+        JTextField firstField = new JTextField(15);
+        JTextField secondField = new JTextField(15);
+        JPanel form = new JPanel(new GridLayout(0, 1, 5, 5));
+        form.add(new JLabel("Participant"));
+        form.add(firstField);
+        form.add(new JLabel("Opponent"));
+        form.add(secondField);
+        if (JOptionPane.showConfirmDialog(this, form, "Head-to-Head", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) return;
+        ResultsArchive archive = getResultsArchive();
+        if (archive == null) return;
+
+        String first = firstField.getText().trim(), second = secondField.getText().trim();
+        long lastYear = System.currentTimeMillis() - 365L * 24 * 60 * 60 * 1000;
+        String message = first + ": " + archive.careerRecord(first) + " all time\n"
+                + second + ": " + archive.careerRecord(second) + " all time\n\n"
+                + first + " vs " + second + ": " + archive.headToHead(first, second, 0) + " all time, "
+                + archive.headToHead(first, second, lastYear) + " in the last year\n\n"
+                + String.format("%,d matches archived", archive.size())
+                + bracketMeeting(first, second);
+        JOptionPane.showMessageDialog(this, message, "Head-to-Head", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /** Where the two could meet in the current bracket, if both are in it; empty otherwise. */
+    private String bracketMeeting(String first, String second) {
+        if (!isTournamentGenerated) return "";
+        Participant a = null, b = null;
+        for (Participant p : currentTournament.getParticipants()) {
+            if (p.getName().equalsIgnoreCase(first)) a = p;
+            if (p.getName().equalsIgnoreCase(second)) b = p;
+        }
+        if (a == null || b == null) return "";
+        BracketQueries queries = new BracketQueries(currentTournament);
+        int round = queries.meetingRound(a, b);
+        if (round < 0) return "\n\nThey can't meet in this bracket.";
+        return "\n\nIn this bracket they could meet in round " + (round + 1) + " of " + queries.getRoundCount() + ".";
+    }
+
+    /** Everything a running tournament has on the primary: journal, ratings, archive, and replication if configured. */
+    private void goLive() {
+        openResultJournal();
+        currentTournament.addTournamentListener(ratingEngine);
+        currentTournament.addTournamentListener(changed -> archiveIfFinished());
+        if (REPLICATION_PORT != null) {
+            byte[] secret = replicationSecret();
+            if (secret == null) {
+                JOptionPane.showMessageDialog(this, "No standby can connect: set BRACKETCRAFT_REPLICATION_SECRET first.",
+                        "Replication", JOptionPane.WARNING_MESSAGE);
+            } else {
+                try {
+                    InetAddress bind = REPLICATION_BIND == null ? null : InetAddress.getByName(REPLICATION_BIND);
+                    replicationPrimary = new ReplicationPrimary(currentTournament, bind, REPLICATION_PORT, secret);
+                } catch (IOException ex) {
+                    JOptionPane.showMessageDialog(this, "No standby can connect: " + ex.getMessage(), "Replication", JOptionPane.WARNING_MESSAGE);
+                }
+            }
+        }
+        if (STATIONS != null) startSchedule(STATIONS);
+    }
+
+    /** The shared replication secret, or null if none is configured. */
+    private static byte[] replicationSecret() {
+        String secret = System.getenv("BRACKETCRAFT_REPLICATION_SECRET");
+        if (secret == null || secret.isEmpty()) secret = System.getProperty("bracketcraft.replicationSecret");
+        return secret == null || secret.isEmpty() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Plans every match onto the stations from now on and keeps the plan current as results come in. */
+    private void startSchedule(int stations) {
+        long startedAt = System.currentTimeMillis();
+        MatchScheduler scheduler = new MatchScheduler(currentTournament, stations, MINUTES_PER_MATCH);
+        currentTournament.addTournamentListener(changed ->
+                scheduler.update(changed, (System.currentTimeMillis() - startedAt) / 60_000));
+        bracketDisplayPanel.setScheduler(scheduler);
+    }
+
+    // --- Standby ---
+
+    /**
+     * Follows a primary instead of running a tournament: shows whatever the primary ships, read-only, until it
+     * goes quiet, then carries on as the primary from the last state received.
+     */
+    private void startStandby(String primary) {
+        int colon = primary.lastIndexOf(':');
+        String host = colon > 0 ? primary.substring(0, colon).trim() : "localhost";
+        int port;
+        try {
+            port = Integer.parseInt(primary.substring(colon + 1).trim());
+        } catch (NumberFormatException ex) {
+            port = -1;
+        }
+        if (port < 1 || port > 65535 || host.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Can't follow \"" + primary + "\": expected host:port, e.g. desk1:7070.",
+                    "Replication", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        byte[] secret = replicationSecret();
+        if (secret == null) {
+            JOptionPane.showMessageDialog(this, "Can't follow " + primary + ": set BRACKETCRAFT_REPLICATION_SECRET first.",
+                    "Replication", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        setTitle("BracketCraft (standby for " + primary + ")");
+        isTournamentGenerated = true;   // nothing to edit here until we take over
+        bracketPanel.setControlsEnabled(false);
+
+        replicationStandby = new ReplicationStandby(host, port, secret, new ReplicationStandby.Listener() {
+            @Override
+            public void snapshotReceived(Tournament tournament) {
+                currentTournament = tournament;
+                bracketDisplayPanel.setTournament(tournament);
+            }
+
+            @Override
+            public void takeover() {
+                replicationStandby = null;
+                setTitle("BracketCraft");
+                if (currentTournament.getRounds().isEmpty()) {
+                    // The primary never got as far as a tournament; start fresh
+                    isTournamentGenerated = false;
+                    bracketPanel.setControlsEnabled(true);
+                    updateLiveBracketPreview();
+                    return;
+                }
+                // The bracket holds the snapshot's own participants; interning has to hand out those same objects
+                for (Participant p : currentTournament.getParticipants()) {
+                    if (!p.isPlaceholder()) participantRegistry.adopt(p);
+                }
+                bracketDisplayPanel.setResultEntryEnabled(true);
+                goLive();
+            }
+        });
+    }
+
+    /**
+     * Imports a results CSV (participant1,participant2,score1,score2 per line) as one batch:
+     * either every line is recorded or none is. Reading happens off the EDT, recording on it.
+     */
+    public void importResults() {
+        if (!isTournamentGenerated) {
+            JOptionPane.showMessageDialog(this, "Start the tournament before importing results.", "Import Results", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import Results (CSV)");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File source = chooser.getSelectedFile();
+
+        new SwingWorker<List<ResultsCsvImporter.Row>, Void>() {
+            @Override
+            protected List<ResultsCsvImporter.Row> doInBackground() throws Exception {
+                return ResultsCsvImporter.read(source);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    List<MatchResult> results = ResultsCsvImporter.resolve(currentTournament, get());
+                    bracketDisplayPanel.recordResults(results);
+                    JOptionPane.showMessageDialog(MainFrame.this, "Recorded " + results.size() + " results.", "Import Results", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(MainFrame.this, "Nothing was imported. " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Slides the info panel in/out on the shared animation clock. The bracket is frozen into a snapshot
+     * for the duration, so frames only relayout the sidebar instead of repainting the whole bracket.
+     */
     private void toggleInfoPanel() {
-        if (animationTimer != null && animationTimer.isRunning()) return;
+        if (sidebarAnimation != null && sidebarAnimation.isRunning()) return;
         int startWidth = infoContainerPanel.getWidth();
         int targetWidth = isInfoPanelVisible ? 0 : INFO_PANEL_WIDTH;
         isInfoPanelVisible = !isInfoPanelVisible;
 
-        long startTime = System.currentTimeMillis();
-        animationTimer = new Timer(5, (ActionEvent e) -> {
-            long elapsedTime = System.currentTimeMillis() - startTime;
-            double progress = (double) elapsedTime / ANIMATION_DURATION_MS;
-            if (progress >= 1.0) {
-                progress = 1.0;
-                ((Timer) e.getSource()).stop();
-            }
-            int newWidth = (int) (startWidth + (targetWidth - startWidth) * progress);
-            infoContainerPanel.setPreferredSize(new Dimension(newWidth, 0));
-            infoContainerPanel.revalidate();
-        });
-        animationTimer.start();
+        bracketDisplayPanel.beginSnapshot(Math.max(0, startWidth - targetWidth));
+        sidebarAnimation = AnimationScheduler.getInstance().animate(ANIMATION_DURATION_MS, AnimationScheduler.EASE_IN_OUT,
+            progress -> {
+                int newWidth = (int) Math.round(startWidth + (targetWidth - startWidth) * progress);
+                infoContainerPanel.setPreferredSize(new Dimension(newWidth, 0));
+                infoContainerPanel.revalidate();
+            },
+            bracketDisplayPanel::endSnapshot);
     }
 
     private JButton createNavButton(String toolTipText, String iconPath) {
@@ -175,7 +640,7 @@ public class MainFrame extends javax.swing.JFrame {
             if ("Back".equals(toolTipText)) {
                 toggleInfoPanel();
             } else {
-                infoCardLayout.show(infoContainerPanel, toolTipText);
+                showInfoCard(toolTipText);
                 if (!isInfoPanelVisible) {
                     toggleInfoPanel();
                 }
@@ -198,6 +663,8 @@ public class MainFrame extends javax.swing.JFrame {
     }
 
     public static void main(String args[]) {
+        launchNanos = System.nanoTime();
+        BracketMetrics.register();
         try { UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName()); } catch (Exception ex) {}
         EventQueue.invokeLater(() -> new MainFrame().setVisible(true));
     }
@@ -1,17 +1,28 @@
 package bracketcraft;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
 
 public class Match implements Serializable {
     private Participant participant1;
     private Participant participant2;
     private Participant winner;
     private Match nextMatch;
+    private LazyRound nextRound;   // where nextMatch comes from if it hasn't been created yet
     
     // --- Fields to store match scores ---
     private int score1 = 0;
     private int score2 = 0;
 
+    // --- Series: one int per game played, (points1 << 16) | points2; null until the first game ---
+    private int[] games;
+    private transient String seriesSummary;
+
+    // --- Position in the bracket grid (round 0 is the first round, slot counts from the top) ---
+    private int round = -1;
+    private int slot = -1;
+
     /**
      * Default constructor for creating an empty match to be filled later.
      */
@@ -39,7 +50,15 @@ public class Match implements Serializable {
     public Participant getWinner() { return winner; }
     public void setWinner(Participant winner) { this.winner = winner; }
 
-    public Match getNextMatch() { return nextMatch; }
+    public Match getNextMatch() {
+        if (nextMatch == null && nextRound != null) nextMatch = nextRound.get(slot >> 1);
+        return nextMatch;
+    }
+    /** The next match only if it already exists; doesn't create a lazy one. */
+    Match peekNextMatch() {
+        return nextMatch != null || nextRound == null ? nextMatch : LazyRound.peek(nextRound, slot >> 1);
+    }
+
     public void setNextMatch(Match nextMatch) { this.nextMatch = nextMatch; }
     
     // --- Getters and Setters for scores ---
@@ -48,4 +67,63 @@ public class Match implements Serializable {
 
     public int getScore2() { return score2; }
     public void setScore2(int score2) { this.score2 = score2; }
+
+    // --- Series games ---
+    public int getGameCount() { return games == null ? 0 : games.length; }
+    public int getGamePoints1(int game) { return games[game] >>> 16; }
+    public int getGamePoints2(int game) { return games[game] & 0xFFFF; }
+
+    // Arrays grow one game at a time; a best-of-7 tops out at 7 ints
+    void addGame(int points1, int points2) {
+        int n = getGameCount();
+        games = games == null ? new int[1] : Arrays.copyOf(games, n + 1);
+        games[n] = (points1 << 16) | points2;
+        seriesSummary = null;
+    }
+
+    void removeLastGame() {
+        int n = getGameCount();
+        if (n == 0) return;
+        games = n == 1 ? null : Arrays.copyOf(games, n - 1);
+        seriesSummary = null;
+    }
+
+    /** "21-15, 18-21, 21-19", built on first use after a change and kept for repaints; null with no games. */
+    public String getSeriesSummary() {
+        if (seriesSummary == null && games != null) {
+            StringBuilder sb = new StringBuilder(games.length * 7);
+            for (int g = 0; g < games.length; g++) {
+                if (g > 0) sb.append(", ");
+                sb.append(getGamePoints1(g)).append('-').append(getGamePoints2(g));
+            }
+            seriesSummary = sb.toString();
+        }
+        return seriesSummary;
+    }
+
+    /**
+     * For {@link Tournament#copy()}: the same result, with participants swapped for their copies and linked into the
+     * copied next round (whose matches are copied first).
+     */
+    Match copy(UnaryOperator<Participant> participantCopy, LazyRound nextRoundCopy) {
+        Match copy = new Match(participantCopy.apply(participant1), participantCopy.apply(participant2));
+        copy.winner = participantCopy.apply(winner);
+        copy.score1 = score1;
+        copy.score2 = score2;
+        copy.games = games == null ? null : games.clone();
+        copy.round = round;
+        copy.slot = slot;
+        copy.nextRound = nextRoundCopy;
+        if (nextMatch != null && nextRoundCopy != null) copy.nextMatch = LazyRound.peek(nextRoundCopy, slot >> 1);
+        return copy;
+    }
+
+    public int getRound() { return round; }
+    public int getSlot() { return slot; }
+    void setNextRound(LazyRound nextRound) { this.nextRound = nextRound; }
+
+    void setPosition(int round, int slot) {
+        this.round = round;
+        this.slot = slot;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package bracketcraft;
+
+/**
+ * One final score to be recorded, as passed to {@link Tournament#recordResults(java.util.List)}.
+ */
+public final class MatchResult {
+    private final Match match;
+    private final int score1;
+    private final int score2;
+
+    public MatchResult(Match match, int score1, int score2) {
+        if (match == null) throw new IllegalArgumentException("A result needs a match.");
+        this.match = match;
+        this.score1 = score1;
+        this.score2 = score2;
+    }
+
+    public Match getMatch() { return match; }
+    public int getScore1() { return score1; }
+    public int getScore2() { return score2; }
+}
@@ -0,0 +1,351 @@
+package bracketcraft;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * -- MATCH SCHEDULER --
+ * Assigns matches to N stations (consoles, courts, ...) and estimates start times.
+ *
+ * Matches become ready when every feeding match is finished. Ready matches are handed to the station that frees up
+ * first, longest remaining path to the final first (the classic critical-path list schedule, which keeps makespan low).
+ * Everything is kept in int/long arrays indexed by bracket position: round by round, slot within the round, so feeders
+ * and next matches are arithmetic and lazy rounds never have to create their matches to be planned.
+ *
+ * The plan is the list schedule's placements in start order, plus each station's timeline. A change only invalidates
+ * the plan from the earliest minute it touches (a changed end time, a match taken back); placements that start before
+ * that stay as they are, and only the later ones go back into the ready set and get placed again, from the stations'
+ * timelines as they stand at that minute. Running and finished matches are pinned and never move.
+ * Times are minutes since the event started.
+ */
+public class MatchScheduler {
+    private static final byte WAITING = 0, RUNNING = 1, FINISHED = 2, BYE = 3;
+
+    private final Tournament tournament;
+    private final List<List<Match>> rounds;
+    private final int[] offset;          // first position of each round, plus the total at the end
+    private final byte[] feederCount;
+    private final int[] duration;
+    private final byte[] state;
+
+    private final long[] start;
+    private final long[] end;
+    private final int[] station;
+    private final long[] stationFreeAt;  // when each station is done with its pinned matches
+
+    // The plan: placements in the order they were made (so by start), and each station's placements, newest first
+    private int[] order;
+    private long[] orderStart;
+    private int placed = 0;
+    private final int[] placement;       // index into order, -1 if not placed
+    private final int[] prevOnStation;
+    private final int[] lastOnStation;
+
+    // Matches waiting for a placement, and the ready-set bookkeeping while placing them
+    private final int[] unplaced;
+    private int unplacedCount = 0;
+    private final byte[] feedersIn;
+    private final long[] readyAt;
+    private long invalidFrom = Long.MAX_VALUE;
+
+    public MatchScheduler(Tournament tournament, int stationCount, int minutesPerMatch) {
+        if (stationCount < 1) throw new IllegalArgumentException("At least one station is required.");
+        this.tournament = tournament;
+        this.rounds = tournament.getRounds();
+        List<Match> firstRound = rounds.get(0);
+        // Rounds 2+ are full; the first round is compacted, so its width comes from the round it feeds
+        int firstWidth = rounds.size() > 1 ? rounds.get(1).size() << 1
+                : firstRound.isEmpty() ? 0 : firstRound.get(firstRound.size() - 1).getSlot() + 1;
+        offset = new int[rounds.size() + 1];
+        offset[1] = firstWidth;
+        for (int r = 1; r < rounds.size(); r++) offset[r + 1] = offset[r] + rounds.get(r).size();
+        int total = offset[rounds.size()];
+
+        feederCount = new byte[total];
+        duration = new int[total];
+        state = new byte[total];
+        start = new long[total];
+        end = new long[total];
+        station = new int[total];
+        stationFreeAt = new long[stationCount];
+        order = new int[Math.max(total, 1)];
+        orderStart = new long[order.length];
+        placement = new int[total];
+        prevOnStation = new int[total];
+        lastOnStation = new int[stationCount];
+        unplaced = new int[total];
+        feedersIn = new byte[total];
+        readyAt = new long[total];
+
+        Arrays.fill(duration, minutesPerMatch);
+        Arrays.fill(placement, -1);
+        Arrays.fill(lastOnStation, -1);
+        // First-round slots without a match are byes; only the matches that exist can already be decided
+        Arrays.fill(state, 0, firstWidth, BYE);
+        for (Match m : firstRound) state[m.getSlot()] = m.getWinner() != null ? FINISHED : WAITING;
+        for (int r = 1; r < rounds.size(); r++) {
+            for (Match m : LazyRound.materialized(rounds.get(r))) {
+                if (m.getWinner() != null) state[offset[r] + m.getSlot()] = FINISHED;
+            }
+        }
+        for (int i = firstWidth; i < total; i++) {
+            int f = firstFeeder(i);
+            feederCount[i] = (byte) ((state[f] != BYE ? 1 : 0) + (state[f + 1] != BYE ? 1 : 0));
+        }
+        for (int i = 0; i < total; i++) {
+            if (state[i] == WAITING) unplaced[unplacedCount++] = i;
+        }
+        invalidFrom = Long.MIN_VALUE;
+        project();
+    }
+
+    // --- Live updates ---
+
+    /** Overrides the expected length of one match (e.g. a best-of-5 final). */
+    public void setDuration(Match match, int minutes) {
+        int i = index(match);
+        if (placement[i] >= 0) {
+            // It keeps its start; whatever came after its old or new end, whichever is sooner, is placed again
+            invalidate(start[i] + Math.min(duration[i], minutes));
+            end[i] = start[i] + minutes;
+        }
+        duration[i] = minutes;
+        project();
+    }
+
+    /** A match has actually begun on a station. */
+    public void recordStart(Match match, int stationIndex, long minute) {
+        int i = index(match);
+        if (placement[i] >= 0) invalidate(start[i]);
+        else if (state[i] != WAITING) invalidate(Math.min(end[i], minute + duration[i]));
+        // Whatever the plan had on that station past this minute has to make room
+        for (int e = lastOnStation[stationIndex]; e >= 0 && end[e] > minute; e = prevOnStation[e]) invalidate(start[e]);
+        state[i] = RUNNING;
+        station[i] = stationIndex;
+        start[i] = minute;
+        end[i] = minute + duration[i];
+        stationFreeAt[stationIndex] = Math.max(stationFreeAt[stationIndex], end[i]);
+        project();
+    }
+
+    /** A match is over; its station frees up now and its next match may become ready. */
+    public void recordFinish(Match match, long minute) {
+        finish(index(match), minute);
+        project();
+    }
+
+    /**
+     * Catches up with a batch of result changes (a listener event): newly decided matches finish at {@code minute},
+     * matches whose result was taken back wait again. One re-placement for the whole batch.
+     */
+    public void update(List<Match> changed, long minute) {
+        for (Match match : changed) {
+            int i = position(match);
+            if (i < 0) continue;
+            if (match.getWinner() != null && state[i] != FINISHED) finish(i, minute);
+            else if (match.getWinner() == null && state[i] == FINISHED) takeBack(i);
+        }
+        project();
+    }
+
+    private void finish(int i, long minute) {
+        if (state[i] == FINISHED) return;
+        invalidate(Math.min(end[i], minute));
+        if (state[i] == RUNNING) {
+            // Its own station is the one that frees up, possibly earlier than planned
+            stationFreeAt[station[i]] = minute;
+        } else if (placement[i] >= 0) {
+            // Never reported as started: it was played where the plan had it, and backdated if it was planned for later
+            if (start[i] > minute) start[i] = Math.max(0, minute - duration[i]);
+            stationFreeAt[station[i]] = Math.max(stationFreeAt[station[i]], minute);
+        } else {
+            // Not in the plan at all: put it on whichever station was free first and plan everything again
+            invalidate(Long.MIN_VALUE);
+            station[i] = earliestStation();
+            start[i] = Math.min(minute, Math.max(stationFreeAt[station[i]], minute - duration[i]));
+            stationFreeAt[station[i]] = Math.max(stationFreeAt[station[i]], minute);
+        }
+        state[i] = FINISHED;
+        end[i] = minute;
+    }
+
+    /** A finished match's result was taken back (undo, correction); it goes back to waiting and is scheduled again. */
+    public void reopen(Match match) {
+        takeBack(index(match));
+        project();
+    }
+
+    private void takeBack(int i) {
+        if (state[i] != FINISHED) return;
+        // Anything after it depended on its end; it gets played again from there
+        invalidate(end[i]);
+        state[i] = WAITING;
+        unplaced[unplacedCount++] = i;
+    }
+
+    // --- Queries ---
+
+    public boolean isFinished(Match match) { return state[index(match)] == FINISHED; }
+    public boolean isScheduled(Match match) { return position(match) >= 0; }
+    public int getStation(Match match) { return station[index(match)]; }
+    public long getEstimatedStart(Match match) { return start[index(match)]; }
+    public long getEstimatedEnd(Match match) { return end[index(match)]; }
+    public int getStationCount() { return stationFreeAt.length; }
+
+    /** Estimated minute the final ends. */
+    public long getMakespan() {
+        long makespan = 0;
+        for (int i = 0; i < end.length; i++) {
+            if (state[i] != BYE) makespan = Math.max(makespan, end[i]);
+        }
+        return makespan;
+    }
+
+    // --- Projection ---
+
+    private void invalidate(long minute) {
+        invalidFrom = Math.min(invalidFrom, minute);
+    }
+
+    /**
+     * Takes back every placement from {@link #invalidFrom} on and list-schedules those matches (and any taken-back
+     * ones) again from that minute. Placements before it, running and finished matches stay put.
+     */
+    private void project() {
+        if (invalidFrom == Long.MAX_VALUE) return;
+        long from = invalidFrom;
+        invalidFrom = Long.MAX_VALUE;
+
+        // 1. Placements were made in start order, so the invalid ones are a suffix; stale entries are skipped
+        int cut = firstPlacementFrom(from);
+        for (int k = placed - 1; k >= cut; k--) {
+            int m = order[k];
+            if (placement[m] == k && state[m] == WAITING) unplaced[unplacedCount++] = m;
+        }
+        // 2. Cut each station's timeline back to the same minute. A match pinned since it was placed is always
+        //    last on its station once the later placements are gone, so it comes off here too
+        long[] freeAt = new long[stationFreeAt.length];
+        for (int s = 0; s < freeAt.length; s++) {
+            int last = lastOnStation[s];
+            while (last >= 0 && (placement[last] >= cut || state[last] != WAITING)) {
+                placement[last] = -1;
+                last = prevOnStation[last];
+            }
+            lastOnStation[s] = last;
+            freeAt[s] = last >= 0 ? Math.max(stationFreeAt[s], end[last]) : stationFreeAt[s];
+        }
+        placed = cut;
+
+        // 3. The ready set: a waiting match is ready once every feeder is pinned or still placed.
+        //    Released: ready by the current time, best priority first. Positions go round by round, so the lowest
+        //    position is the longest remaining path. Pending: feeders done, ordered by ready time.
+        PriorityQueue<Integer> released = new PriorityQueue<>();
+        PriorityQueue<Integer> pending = new PriorityQueue<>((a, b) -> readyAt[a] != readyAt[b]
+                ? Long.compare(readyAt[a], readyAt[b]) : Integer.compare(a, b));
+        for (int u = 0; u < unplacedCount; u++) {
+            int m = unplaced[u];
+            if (state[m] != WAITING || placement[m] >= 0) continue;
+            feedersIn[m] = 0;
+            readyAt[m] = 0;
+            int f = firstFeeder(m);
+            for (int g = f; f >= 0 && g <= f + 1; g++) {
+                if (state[g] == BYE || (state[g] == WAITING && placement[g] < 0)) continue;
+                feedersIn[m]++;
+                readyAt[m] = Math.max(readyAt[m], end[g]);
+            }
+            if (feedersIn[m] == feederCount[m]) pending.add(m);
+        }
+        unplacedCount = 0;
+
+        PriorityQueue<Integer> stations = new PriorityQueue<>((a, b) -> freeAt[a] != freeAt[b]
+                ? Long.compare(freeAt[a], freeAt[b]) : Integer.compare(a, b));
+        for (int s = 0; s < freeAt.length; s++) stations.add(s);
+
+        // 4. The list schedule from that minute on; the clock never goes back, so placements stay in start order
+        long clock = Math.max(from, 0);
+        while (!released.isEmpty() || !pending.isEmpty()) {
+            int s = stations.poll();
+            clock = Math.max(clock, freeAt[s]);
+            if (released.isEmpty()) clock = Math.max(clock, readyAt[pending.peek()]);
+            while (!pending.isEmpty() && readyAt[pending.peek()] <= clock) released.add(pending.poll());
+
+            int m = released.poll();
+            place(m, s, clock);
+            freeAt[s] = end[m];
+            stations.add(s);
+
+            int nm = nextPosition(m);
+            if (nm >= 0 && state[nm] == WAITING && placement[nm] < 0) {
+                readyAt[nm] = Math.max(readyAt[nm], end[m]);
+                if (++feedersIn[nm] == feederCount[nm]) pending.add(nm);
+            }
+        }
+    }
+
+    private void place(int m, int s, long minute) {
+        if (placed == order.length) {
+            order = Arrays.copyOf(order, placed << 1);
+            orderStart = Arrays.copyOf(orderStart, placed << 1);
+        }
+        order[placed] = m;
+        orderStart[placed] = minute;
+        placement[m] = placed++;
+        station[m] = s;
+        start[m] = minute;
+        end[m] = minute + duration[m];
+        prevOnStation[m] = lastOnStation[s];
+        lastOnStation[s] = m;
+    }
+
+    /** Index of the first placement starting at or after {@code minute}. */
+    private int firstPlacementFrom(long minute) {
+        int lo = 0, hi = placed;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (orderStart[mid] < minute) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private int earliestStation() {
+        int best = 0;
+        for (int s = 1; s < stationFreeAt.length; s++) {
+            if (stationFreeAt[s] < stationFreeAt[best]) best = s;
+        }
+        return best;
+    }
+
+    // --- Positions ---
+
+    private int roundOf(int i) {
+        int r = Arrays.binarySearch(offset, i);
+        return r >= 0 ? r : -r - 2;
+    }
+
+    /** Position of the first of the two matches feeding {@code i}, or -1 in the first round. */
+    private int firstFeeder(int i) {
+        int r = roundOf(i);
+        return r == 0 ? -1 : offset[r - 1] + ((i - offset[r]) << 1);
+    }
+
+    /** Position of the match {@code i}'s winner moves on to, or -1 in the last round. */
+    private int nextPosition(int i) {
+        int r = roundOf(i);
+        return r + 1 < rounds.size() ? offset[r + 1] + ((i - offset[r]) >> 1) : -1;
+    }
+
+    /** The match's position, or -1 if it isn't part of this bracket. */
+    private int position(Match match) {
+        int r = match.getRound(), slot = match.getSlot();
+        if (r < 0 || r >= rounds.size() || slot < 0 || slot >= offset[r + 1] - offset[r]) return -1;
+        Match at = r == 0 ? tournament.findMatch(0, slot) : LazyRound.peek(rounds.get(r), slot);
+        return at == match ? offset[r] + slot : -1;
+    }
+
+    private int index(Match match) {
+        int i = position(match);
+        if (i < 0) throw new IllegalArgumentException("Match is not part of this tournament.");
+        return i;
+    }
+}
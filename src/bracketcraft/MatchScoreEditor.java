@@ -0,0 +1,124 @@
+package bracketcraft;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+
+/**
+ * -- INLINE SCORE EDITOR --
+ * Small popup shown right on top of a match box. Enter saves, Escape closes.
+ */
+public class MatchScoreEditor extends JPopupMenu {
+
+    /** Called with the entered scores; returns an error message to show, or null if the result was accepted. */
+    public interface SaveHandler {
+        String save(Match match, int score1, int score2);
+    }
+
+    private final JTextField score1Field;
+    private final JTextField score2Field;
+    private final JLabel errorLabel;
+
+    public MatchScoreEditor(Match match, SaveHandler handler) {
+        this(match, null, match.getScore1(), match.getScore2(), handler);
+    }
+
+    /**
+     * @param heading shown above the names (e.g. which game of a series), or null for none.
+     */
+    public MatchScoreEditor(Match match, String heading, int initial1, int initial2, SaveHandler handler) {
+        setBackground(AppTheme.BACKGROUND_SIDEBAR);
+        setBorder(BorderFactory.createLineBorder(AppTheme.ACCENT_PRIMARY, 2));
+
+        JPanel content = new JPanel(new GridBagLayout());
+        content.setOpaque(false);
+        content.setBorder(BorderFactory.createEmptyBorder(8, 10, 8, 10));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(2, 2, 2, 2);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        score1Field = createScoreField(initial1);
+        score2Field = createScoreField(initial2);
+
+        int row = 0;
+        if (heading != null) {
+            JLabel headingLabel = new JLabel(heading);
+            headingLabel.setFont(AppTheme.FONT_INPUT_LABEL);
+            headingLabel.setForeground(AppTheme.TEXT_SECONDARY);
+            gbc.gridy = row++; gbc.gridx = 0; gbc.gridwidth = 2;
+            content.add(headingLabel, gbc);
+            gbc.gridwidth = 1;
+        }
+
+        gbc.gridy = row++; gbc.gridx = 0; gbc.weightx = 1.0;
+        content.add(createNameLabel(match.getParticipant1()), gbc);
+        gbc.gridx = 1; gbc.weightx = 0;
+        content.add(score1Field, gbc);
+
+        gbc.gridy = row++; gbc.gridx = 0; gbc.weightx = 1.0;
+        content.add(createNameLabel(match.getParticipant2()), gbc);
+        gbc.gridx = 1; gbc.weightx = 0;
+        content.add(score2Field, gbc);
+
+        errorLabel = new JLabel(" ");
+        errorLabel.setFont(AppTheme.FONT_INPUT_LABEL);
+        errorLabel.setForeground(Color.RED);
+        gbc.gridy = row; gbc.gridx = 0; gbc.gridwidth = 2;
+        content.add(errorLabel, gbc);
+        add(content);
+
+        Runnable save = () -> {
+            try {
+                int s1 = Integer.parseInt(score1Field.getText().trim());
+                int s2 = Integer.parseInt(score2Field.getText().trim());
+                String error = handler.save(match, s1, s2);
+                if (error == null) {
+                    setVisible(false);
+                } else {
+                    errorLabel.setText(error);
+                    pack();
+                }
+            } catch (NumberFormatException ex) {
+                errorLabel.setText("Scores must be whole numbers.");
+                pack();
+            }
+        };
+        score1Field.addActionListener(e -> save.run());
+        score2Field.addActionListener(e -> save.run());
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "close");
+        getActionMap().put("close", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                setVisible(false);
+            }
+        });
+    }
+
+    @Override
+    public void show(Component invoker, int x, int y) {
+        super.show(invoker, x, y);
+        score1Field.requestFocusInWindow();
+        score1Field.selectAll();
+    }
+
+    private JLabel createNameLabel(Participant p) {
+        JLabel label = new JLabel(p != null ? p.getName() : "---");
+        label.setFont(AppTheme.FONT_BODY_PLAIN);
+        label.setForeground(AppTheme.TEXT_PRIMARY);
+        label.setPreferredSize(new Dimension(140, label.getPreferredSize().height));
+        return label;
+    }
+
+    private JTextField createScoreField(int score) {
+        JTextField tf = new JTextField(String.valueOf(score), 3);
+        tf.setFont(AppTheme.FONT_BODY_BOLD);
+        tf.setHorizontalAlignment(JTextField.CENTER);
+        tf.setBackground(AppTheme.BACKGROUND_INPUT);
+        tf.setForeground(AppTheme.TEXT_PRIMARY);
+        tf.setCaretColor(AppTheme.TEXT_PRIMARY);
+        tf.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(AppTheme.BORDER_COLOR),
+            BorderFactory.createEmptyBorder(4, 6, 4, 6)));
+        return tf;
+    }
+}
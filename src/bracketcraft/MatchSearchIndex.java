@@ -0,0 +1,88 @@
+package bracketcraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * -- PARTICIPANT SEARCH --
+ * Sorted array of lower-cased participant names, each pointing at the first match that participant plays.
+ * A prefix lookup is two binary searches; the rest of a participant's run is found by following nextMatch
+ * while they are still in it, so recording results never invalidates the index.
+ */
+public class MatchSearchIndex {
+    private final String[] keys;
+    private final Participant[] participants;
+    private final Match[] entryMatches;
+
+    public MatchSearchIndex(Tournament tournament) {
+        Map<Participant, Match> firstMatch = new IdentityHashMap<>();
+        for (List<Match> round : tournament.getRounds()) {
+            for (Match match : LazyRound.materialized(round)) {
+                if (match.getParticipant1() != null) firstMatch.putIfAbsent(match.getParticipant1(), match);
+                if (match.getParticipant2() != null) firstMatch.putIfAbsent(match.getParticipant2(), match);
+            }
+        }
+
+        int size = firstMatch.size();
+        String[] unsortedKeys = new String[size];
+        Participant[] unsortedParticipants = new Participant[size];
+        Integer[] order = new Integer[size];
+        int n = 0;
+        for (Participant p : firstMatch.keySet()) {
+            unsortedKeys[n] = normalize(p.getName());
+            unsortedParticipants[n] = p;
+            order[n] = n;
+            n++;
+        }
+        Arrays.sort(order, (a, b) -> unsortedKeys[a].compareTo(unsortedKeys[b]));
+
+        keys = new String[size];
+        participants = new Participant[size];
+        entryMatches = new Match[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = unsortedKeys[order[i]];
+            participants[i] = unsortedParticipants[order[i]];
+            entryMatches[i] = firstMatch.get(participants[i]);
+        }
+    }
+
+    /**
+     * Every match played (or to be played) by participants whose name starts with the prefix, in bracket order.
+     * @param limit stop after this many participants, so a one-letter query on a huge bracket stays cheap.
+     */
+    public List<Match> findMatches(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return Collections.emptyList();
+
+        List<Match> result = new ArrayList<>();
+        int matched = 0;
+        for (int i = lowerBound(key); i < keys.length && keys[i].startsWith(key) && matched < limit; i++, matched++) {
+            Participant p = participants[i];
+            for (Match m = entryMatches[i]; m != null && (m.getParticipant1() == p || m.getParticipant2() == p); m = m.peekNextMatch()) {
+                result.add(m);
+            }
+        }
+        return result;
+    }
+
+    public int size() { return keys.length; }
+
+    private int lowerBound(String key) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,30 @@
+package bracketcraft;
+
+/**
+ * The complete result state of one match (scores and winner, null while undecided), as passed to
+ * {@link Tournament#applyStates(java.util.List)} and written to the {@link ResultJournal}.
+ */
+public final class MatchState {
+    private final Match match;
+    private final int score1;
+    private final int score2;
+    private final Participant winner;
+
+    public MatchState(Match match, int score1, int score2, Participant winner) {
+        if (match == null) throw new IllegalArgumentException("A state needs a match.");
+        this.match = match;
+        this.score1 = score1;
+        this.score2 = score2;
+        this.winner = winner;
+    }
+
+    /** What the match holds right now. */
+    public static MatchState of(Match match) {
+        return new MatchState(match, match.getScore1(), match.getScore2(), match.getWinner());
+    }
+
+    public Match getMatch() { return match; }
+    public int getScore1() { return score1; }
+    public int getScore2() { return score2; }
+    public Participant getWinner() { return winner; }
+}
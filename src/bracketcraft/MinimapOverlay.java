@@ -0,0 +1,124 @@
+package bracketcraft;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * -- MINIMAP --
+ * Low-res picture of the whole bracket drawn in the corner of the canvas, with the current viewport on top.
+ * The raster is only rebuilt when the bracket structure changes; a result just recolors that match's few pixels.
+ */
+public class MinimapOverlay {
+    private static final int MAX_SIZE = 180;
+    private static final int MARGIN = 16;
+    private static final Color MATCH_PENDING = new Color(110, 117, 121);
+    private static final Color MATCH_DECIDED = AppTheme.ACCENT_PRIMARY;
+    private static final Color VIEWPORT_COLOR = new Color(236, 239, 241, 200);
+
+    private BufferedImage raster;
+    private Rectangle worldBounds;
+    private double worldToMini;
+    private final Rectangle screenBounds = new Rectangle();
+
+    /**
+     * Redraws the raster from scratch. Call this once per structural change (new bracket, new layout).
+     */
+    public void rebuild(BracketLayout layout) {
+        raster = null;
+        if (layout == null) return;
+        worldBounds = layout.getBounds();
+        if (worldBounds.width <= 0 || worldBounds.height <= 0) return;
+
+        worldToMini = Math.min((double) MAX_SIZE / worldBounds.width, (double) MAX_SIZE / worldBounds.height);
+        int width = Math.max(1, (int) Math.ceil(worldBounds.width * worldToMini));
+        int height = Math.max(1, (int) Math.ceil(worldBounds.height * worldToMini));
+        raster = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = raster.createGraphics();
+        try {
+            g.setColor(AppTheme.BACKGROUND_SIDEBAR);
+            g.fillRect(0, 0, width, height);
+            for (int r = 0; r < layout.getRoundCount(); r++) {
+                for (int i = 0; i < layout.getMatchCount(r); i++) {
+                    fillMatch(g, layout, r, i);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Recolors a single match after its result changed.
+     * @return the screen area that needs repainting, or null if the minimap isn't showing.
+     */
+    public Rectangle updateMatch(BracketLayout layout, int round, int index) {
+        if (raster == null) return null;
+        Graphics2D g = raster.createGraphics();
+        try {
+            fillMatch(g, layout, round, index);
+        } finally {
+            g.dispose();
+        }
+        Rectangle mini = toMini(layout.getX(round, index), layout.getY(round, index));
+        mini.translate(screenBounds.x, screenBounds.y);
+        mini.grow(1, 1);
+        return mini;
+    }
+
+    private void fillMatch(Graphics2D g, BracketLayout layout, int round, int index) {
+        Match match = layout.peekMatch(round, index);
+        g.setColor(match != null && match.getWinner() != null ? MATCH_DECIDED : MATCH_PENDING);
+        Rectangle mini = toMini(layout.getX(round, index), layout.getY(round, index));
+        g.fillRect(mini.x, mini.y, mini.width, mini.height);
+    }
+
+    private Rectangle toMini(int worldX, int worldY) {
+        int x = (int) ((worldX - worldBounds.x) * worldToMini);
+        int y = (int) ((worldY - worldBounds.y) * worldToMini);
+        int w = Math.max(1, (int) (BracketDisplayPanel.MATCH_WIDTH * worldToMini));
+        int h = Math.max(1, (int) (BracketDisplayPanel.MATCH_HEIGHT * worldToMini));
+        return new Rectangle(x, y, w, h);
+    }
+
+    /**
+     * Draws the minimap in the bottom-right corner with the visible world area outlined.
+     */
+    public void paint(Graphics2D g, int canvasWidth, int canvasHeight, Point2D.Double viewTopLeft, Point2D.Double viewBottomRight) {
+        if (raster == null) {
+            screenBounds.setBounds(0, 0, 0, 0);
+            return;
+        }
+        screenBounds.setBounds(canvasWidth - raster.getWidth() - MARGIN, canvasHeight - raster.getHeight() - MARGIN,
+                raster.getWidth(), raster.getHeight());
+        g.drawImage(raster, screenBounds.x, screenBounds.y, null);
+        g.setColor(AppTheme.BORDER_COLOR);
+        g.setStroke(new BasicStroke(1));
+        g.drawRect(screenBounds.x - 1, screenBounds.y - 1, screenBounds.width + 1, screenBounds.height + 1);
+
+        int vx = (int) ((viewTopLeft.x - worldBounds.x) * worldToMini);
+        int vy = (int) ((viewTopLeft.y - worldBounds.y) * worldToMini);
+        int vw = (int) ((viewBottomRight.x - viewTopLeft.x) * worldToMini);
+        int vh = (int) ((viewBottomRight.y - viewTopLeft.y) * worldToMini);
+        Shape oldClip = g.getClip();
+        g.clipRect(screenBounds.x, screenBounds.y, screenBounds.width, screenBounds.height);
+        g.setColor(VIEWPORT_COLOR);
+        g.drawRect(screenBounds.x + vx, screenBounds.y + vy, Math.max(2, vw), Math.max(2, vh));
+        g.setClip(oldClip);
+    }
+
+    public boolean contains(Point screenPoint) {
+        return raster != null && screenBounds.contains(screenPoint);
+    }
+
+    public Rectangle getScreenBounds() {
+        return new Rectangle(screenBounds);
+    }
+
+    /** World coordinates under a point on the minimap (for click-to-jump). */
+    public Point2D.Double toWorld(Point screenPoint) {
+        return new Point2D.Double(worldBounds.x + (screenPoint.x - screenBounds.x) / worldToMini,
+                worldBounds.y + (screenPoint.y - screenBounds.y) / worldToMini);
+    }
+}
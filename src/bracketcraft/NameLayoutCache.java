@@ -0,0 +1,113 @@
+package bracketcraft;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * -- NAME LAYOUT CACHE --
+ * Participant names, measured and cut down to fit a match box once, instead of on every frame.
+ *
+ * Entries are per participant and per zoom bucket (quarter steps of a doubling), since glyph metrics are hinted
+ * for the scale they're laid out at. Each one holds the ellipsized text and its GlyphVector, ready to draw.
+ * Renaming a participant evicts its entries. Past {@link #MAX_PARTICIPANTS} the least recently drawn participant
+ * makes room, so a frame over a huge bracket keeps the names it's showing and only lays out what scrolls into view.
+ * Thread-safe, the tiled exporter renders from several threads; the lock only covers the lookup, not the layout.
+ */
+final class NameLayoutCache {
+    static final int NAME_X_OFFSET = 18;
+    static final int NAME_MAX_WIDTH = BracketDisplayPanel.MATCH_WIDTH - NAME_X_OFFSET - 35 - 8; // up to the score, with a gap
+
+    private static final String ELLIPSIS = "\u2026";
+    private static final int BUCKETS_PER_DOUBLING = 4;
+    private static final int MIN_BUCKET = -12, MAX_BUCKET = 12;     // 1/8x .. 8x
+    private static final int MAX_PARTICIPANTS = 50_000;
+
+    /** One laid-out name. */
+    static final class Entry {
+        final String text;
+        final GlyphVector glyphs;
+
+        Entry(String text, GlyphVector glyphs) {
+            this.text = text;
+            this.glyphs = glyphs;
+        }
+    }
+
+    // Access order, so the eldest entry is the one drawn longest ago
+    private static final Map<Participant, Entry[]> cache = new LinkedHashMap<Participant, Entry[]>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Participant, Entry[]> eldest) {
+            return size() > MAX_PARTICIPANTS;
+        }
+    };
+
+    private NameLayoutCache() {}
+
+    /** The name laid out for the given zoom (the scale of the Graphics it'll be drawn on). */
+    static Entry get(Participant participant, double scale) {
+        int bucket = bucketOf(scale);
+        Entry[] entries;
+        synchronized (cache) {
+            entries = cache.computeIfAbsent(participant, p -> new Entry[MAX_BUCKET - MIN_BUCKET + 1]);
+        }
+        Entry entry = entries[bucket - MIN_BUCKET];
+        if (entry == null) {
+            // Two threads may lay out the same name at once; both get the same answer, so the race is harmless
+            entry = layout(participant.getName(), bucket);
+            entries[bucket - MIN_BUCKET] = entry;
+        }
+        return entry;
+    }
+
+    /** The ellipsized name at 1:1, for output that isn't drawn through a Graphics (SVG). */
+    static String displayText(Participant participant) {
+        return get(participant, 1.0).text;
+    }
+
+    static void evict(Participant participant) {
+        synchronized (cache) {
+            cache.remove(participant);
+        }
+    }
+
+    static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    // --- Layout ---
+
+    private static int bucketOf(double scale) {
+        if (!(scale > 0)) return 0;
+        int bucket = (int) Math.round(Math.log(scale) / Math.log(2) * BUCKETS_PER_DOUBLING);
+        return Math.max(MIN_BUCKET, Math.min(MAX_BUCKET, bucket));
+    }
+
+    private static Entry layout(String name, int bucket) {
+        double scale = Math.pow(2, (double) bucket / BUCKETS_PER_DOUBLING);
+        FontRenderContext frc = new FontRenderContext(AffineTransform.getScaleInstance(scale, scale), true, true);
+        Font font = AppTheme.FONT_BRACKET_NAME;
+
+        String text = name == null ? "" : name;
+        if (width(font, frc, text) > NAME_MAX_WIDTH) {
+            // Longest prefix that still fits with the ellipsis
+            int lo = 0, hi = text.length();
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (width(font, frc, text.substring(0, mid) + ELLIPSIS) <= NAME_MAX_WIDTH) lo = mid;
+                else hi = mid - 1;
+            }
+            text = text.substring(0, lo).trim() + ELLIPSIS;
+        }
+        return new Entry(text, font.createGlyphVector(frc, text));
+    }
+
+    private static double width(Font font, FontRenderContext frc, String text) {
+        return font.getStringBounds(text, frc).getWidth();
+    }
+}
@@ -3,21 +3,76 @@ package bracketcraft;
 import java.io.Serializable;
 public class Participant implements Serializable {
     private String name;
+    private double rating = RatingEngine.INITIAL_RATING;
+    private final boolean placeholder;
+    private boolean registered;   // interned by a ParticipantRegistry, which has to know about renames
 
+    /**
+     * A loose participant; {@link ParticipantRegistry#intern} hands out the tracked ones.
+     */
     public Participant(String name) {
+        this(name, false);
+    }
+
+    private Participant(String name, boolean placeholder) {
         this.name = name;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * A stand-in for an entrant who isn't known yet ("Qualifier 3"); can't play until it's replaced.
+     */
+    static Participant placeholder(String label) {
+        return new Participant(label, true);
+    }
+
+    public boolean isPlaceholder() {
+        return placeholder;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Renames a loose participant. Registered ones are renamed through {@link ParticipantRegistry#rename}, which
+     * keeps the registry's lookup in step.
+     */
     public void setName(String name) {
+        if (registered) throw new IllegalStateException("Rename registered participants through their registry.");
+        rename(name);
+    }
+
+    void setRegistered() {
+        registered = true;
+    }
+
+    void rename(String name) {
         this.name = name;
+        NameLayoutCache.evict(this);
+    }
+
+    /** Elo rating, kept up to date by {@link RatingEngine}. */
+    public double getRating() {
+        return rating;
+    }
+
+    public void setRating(double rating) {
+        this.rating = rating;
+    }
+
+    /** A separate object with the same state, for {@link Tournament#copy()}. */
+    Participant copy() {
+        Participant copy = new Participant(name, placeholder);
+        copy.rating = rating;
+        copy.registered = registered;
+        return copy;
     }
 
+    // No equals/hashCode: interning already makes one object per name within a registry, so identity is the check.
+
     @Override
     public String toString() {
         return name;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package bracketcraft;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * -- PARTICIPANT REGISTRY --
+ * Interns every entrant once and keeps them in registration order.
+ * Lookups go through an open-addressing table of array positions that compares against each participant's own name,
+ * so there is no per-entrant map entry, boxed Integer or second copy of the name.
+ * Interning the same name again returns the same Participant, so winner checks are identity checks.
+ */
+public class ParticipantRegistry implements Serializable {
+    private Participant[] participants = new Participant[64];
+    private int count = 0;
+    private int[] table = new int[128];    // position + 1, 0 = empty
+
+    /**
+     * Returns the participant with this name, registering it first if it's new.
+     */
+    public Participant intern(String name) {
+        int i = slotOf(name);
+        return table[i] != 0 ? participants[table[i] - 1] : register(new Participant(name), i);
+    }
+
+    /** The participant with this name, or null if it was never interned. */
+    public Participant find(String name) {
+        int entry = table[slotOf(name)];
+        return entry != 0 ? participants[entry - 1] : null;
+    }
+
+    /**
+     * Registers an existing participant (one that arrived in a standby's snapshot) so interning its name returns that
+     * object from now on; it takes the place of whatever this registry had under the name.
+     */
+    public void adopt(Participant participant) {
+        int i = slotOf(participant.getName());
+        if (table[i] == 0) {
+            register(participant, i);
+        } else {
+            participants[table[i] - 1] = participant;
+            participant.setRegistered();
+        }
+    }
+
+    /** The participant registered {@code index}th (0-based). */
+    public Participant get(int index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("No participant at " + index);
+        return participants[index];
+    }
+
+    public int size() { return count; }
+
+    /**
+     * Renames a registered participant and moves it in the lookup. Rare, so the table is simply rebuilt.
+     * @throws IllegalArgumentException if another participant already has the new name.
+     */
+    public void rename(Participant participant, String newName) {
+        if (find(participant.getName()) != participant) {
+            throw new IllegalArgumentException("Not in this registry: " + participant);
+        }
+        Participant existing = find(newName);
+        if (existing == participant) return;
+        if (existing != null) throw new IllegalArgumentException("There is already a participant called " + newName + ".");
+        participant.rename(newName);
+        rebuildTable(table.length);
+    }
+
+    /** The table slot holding this name, or the empty slot where it would go. */
+    private int slotOf(String name) {
+        int mask = table.length - 1;
+        for (int i = hash(name) & mask; ; i = (i + 1) & mask) {
+            int entry = table[i];
+            if (entry == 0 || participants[entry - 1].getName().equals(name)) return i;
+        }
+    }
+
+    private Participant register(Participant participant, int tableIndex) {
+        if (count == participants.length) participants = Arrays.copyOf(participants, participants.length * 2);
+        participant.setRegistered();
+        participants[count++] = participant;
+        table[tableIndex] = count;
+
+        if (count * 2 > table.length) rebuildTable(table.length * 2);
+        return participant;
+    }
+
+    private void rebuildTable(int size) {
+        int[] newTable = new int[size];
+        int mask = size - 1;
+        for (int p = 0; p < count; p++) {
+            int i = hash(participants[p].getName()) & mask;
+            while (newTable[i] != 0) i = (i + 1) & mask;
+            newTable[i] = p + 1;
+        }
+        table = newTable;
+    }
+
+    // String.hashCode (cached in the String), spread so linear probing doesn't cluster
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return (h ^ (h >>> 16)) * 0x45d9f3b;
+    }
+}
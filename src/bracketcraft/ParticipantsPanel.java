@@ -2,18 +2,29 @@ package bracketcraft;
 
 import javax.swing.*;
 import javax.swing.border.Border;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.imageio.ImageIO;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public class ParticipantsPanel extends JPanel {
 
+    /** The rows a new bracket starts with; also what the preview shows before this panel is first opened. */
+    public static final List<String> DEFAULT_PARTICIPANTS = Collections.unmodifiableList(
+            Arrays.asList("Team 1", "Team 2", "Team 3", "Team 4"));
+
     private final MainFrame mainFrame;
-    private final JPanel listContainerPanel;
+    private final RowListPanel listContainerPanel;
     private ParticipantRowPanel draggedPanel = null;
+    private int dragStartIndex = -1;
+    private boolean namesEditedSincePreview = false;
     
     private final JButton shuffleButton;
     private final JButton addButton;
@@ -31,7 +42,7 @@ public class ParticipantsPanel extends JPanel {
         titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
         add(titleLabel, BorderLayout.NORTH);
 
-        listContainerPanel = new JPanel();
+        listContainerPanel = new RowListPanel();
         listContainerPanel.setLayout(new BoxLayout(listContainerPanel, BoxLayout.Y_AXIS));
         listContainerPanel.setOpaque(false);
         JScrollPane scrollPane = new JScrollPane(listContainerPanel);
@@ -63,10 +74,9 @@ public class ParticipantsPanel extends JPanel {
         startTournamentButton.addActionListener(e -> mainFrame.startTournament());
 
         // --- Add default participants without triggering a premature update ---
-        listContainerPanel.add(new ParticipantRowPanel("Team 1"));
-        listContainerPanel.add(new ParticipantRowPanel("Team 2"));
-        listContainerPanel.add(new ParticipantRowPanel("Team 3"));
-        listContainerPanel.add(new ParticipantRowPanel("Team 4"));
+        for (String name : DEFAULT_PARTICIPANTS) {
+            listContainerPanel.add(new ParticipantRowPanel(name));
+        }
         renumberRows(); // Manually renumber after the adding (Team 5.) Somthing like tha
     }
 
@@ -99,45 +109,165 @@ public class ParticipantsPanel extends JPanel {
     }
 
     private void addParticipantRow(String name) {
-        ParticipantRowPanel newRow = new ParticipantRowPanel(name);
-        listContainerPanel.add(newRow);
-        renumberRows();
-        listContainerPanel.revalidate();
-        listContainerPanel.repaint();
-        mainFrame.updateLiveBracketPreview(); // LIVE SYNC (para masarap)
+        int index = listContainerPanel.getComponentCount();
+        insertRow(index, name);
+        mainFrame.getEditHistory().push(new RowEdit(index, name, true));
     }
     
     private void removeParticipantRow(ParticipantRowPanel row) {
-        listContainerPanel.remove(row);
+        int index = listContainerPanel.getComponentZOrder(row);
+        String name = row.getParticipantName();
+        removeRowAt(index);
+        mainFrame.getEditHistory().push(new RowEdit(index, name, false));
+    }
+
+    // --- Row edits (shared by the buttons and undo/redo) ---
+
+    private void insertRow(int index, String name) {
+        listContainerPanel.add(new ParticipantRowPanel(name), index);
+        rowsChanged();
+    }
+
+    private void removeRowAt(int index) {
+        listContainerPanel.remove(index);
+        rowsChanged();
+    }
+
+    /**
+     * Moves one row and hands the preview a single move delta. Only the rows between from and to get renumbered
+     * and repainted; the layout pass is one revalidate.
+     */
+    private void moveRow(int from, int to) {
+        if (from == to) return;
+        int seedFrom = -1, seedTo = -1;
+        if (!namesEditedSincePreview && !isBlank(from)) {
+            seedFrom = nonBlankRowsBefore(from);
+            seedTo = from < to ? nonBlankRowsBefore(to + 1) - 1 : nonBlankRowsBefore(to);
+        }
+
+        Component row = listContainerPanel.getComponent(from);
+        listContainerPanel.setComponentZOrder(row, to);
+        int low = Math.min(from, to), high = Math.max(from, to);
+        renumberRows(low, high);
+        listContainerPanel.revalidate();
+        int rowHeight = row.getHeight();
+        listContainerPanel.repaint(0, low * rowHeight, listContainerPanel.getWidth(), (high - low + 1) * rowHeight);
+
+        if (seedFrom >= 0) {
+            mainFrame.moveSeed(seedFrom, seedTo);
+        } else {
+            // Blank rows aren't seeds, and edited names have to be re-read, so rebuild instead
+            namesEditedSincePreview = false;
+            mainFrame.updateLiveBracketPreview();
+        }
+    }
+
+    private boolean isBlank(int index) {
+        String name = rowAt(index).getParticipantName();
+        return name == null || name.trim().isEmpty();
+    }
+
+    private int nonBlankRowsBefore(int index) {
+        int count = 0;
+        for (int i = 0; i < index; i++) {
+            if (!isBlank(i)) count++;
+        }
+        return count;
+    }
+
+    private void rowsChanged() {
+        namesEditedSincePreview = false;
         renumberRows();
         listContainerPanel.revalidate();
         listContainerPanel.repaint();
-        mainFrame.updateLiveBracketPreview(); 
+        mainFrame.updateLiveBracketPreview(); // LIVE SYNC (para masarap)
+    }
+
+    private ParticipantRowPanel rowAt(int index) {
+        return (ParticipantRowPanel) listContainerPanel.getComponent(index);
     }
     
     private void renumberRows() {
-        for (int i = 0; i < listContainerPanel.getComponentCount(); i++) {
+        renumberRows(0, listContainerPanel.getComponentCount() - 1);
+    }
+
+    private void renumberRows(int from, int to) {
+        for (int i = from; i <= to; i++) {
             if (listContainerPanel.getComponent(i) instanceof ParticipantRowPanel) {
                 ((ParticipantRowPanel) listContainerPanel.getComponent(i)).setSeed(i + 1);
             }
         }
     }
     
+    /**
+     * Shuffles the names between the rows. Kept as a permutation (row i took the name of row order[i])
+     * so undo can put everything back without storing the names.
+     */
     private void shuffleParticipants() {
-        List<String> names = getParticipantNames();
-        Collections.shuffle(names);
-
-        Component[] components = listContainerPanel.getComponents();
-        for (int i = 0; i < components.length; i++) {
-            if (components[i] instanceof ParticipantRowPanel) {
-                if (i < names.size()) {
-                    ((ParticipantRowPanel) components[i]).setParticipantName(names.get(i));
-                }
-            }
+        int count = listContainerPanel.getComponentCount();
+        List<Integer> shuffled = new ArrayList<>();
+        for (int i = 0; i < count; i++) shuffled.add(i);
+        Collections.shuffle(shuffled);
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = shuffled.get(i);
+
+        applyPermutation(order, false);
+        mainFrame.getEditHistory().push(new ShuffleEdit(order));
+    }
+
+    private void applyPermutation(int[] order, boolean inverse) {
+        String[] names = new String[order.length];
+        for (int i = 0; i < order.length; i++) names[i] = rowAt(i).getParticipantName();
+        for (int i = 0; i < order.length; i++) {
+            if (inverse) rowAt(order[i]).setParticipantName(names[i]);
+            else rowAt(i).setParticipantName(names[order[i]]);
         }
+        namesEditedSincePreview = false;
         mainFrame.updateLiveBracketPreview();
     }
 
+    // --- Undo entries ---
+
+    private class RowEdit implements EditHistory.Edit {
+        private final int index;
+        private final String name;
+        private final boolean added;
+
+        RowEdit(int index, String name, boolean added) {
+            this.index = index;
+            this.name = name;
+            this.added = added;
+        }
+
+        @Override public void undo() { if (added) removeRowAt(index); else insertRow(index, name); }
+        @Override public void redo() { if (added) insertRow(index, name); else removeRowAt(index); }
+        @Override public int estimatedBytes() { return 48 + 2 * name.length(); }
+    }
+
+    private class MoveEdit implements EditHistory.Edit {
+        private final int from;
+        private final int to;
+
+        MoveEdit(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override public void undo() { moveRow(to, from); }
+        @Override public void redo() { moveRow(from, to); }
+        @Override public int estimatedBytes() { return 24; }
+    }
+
+    private class ShuffleEdit implements EditHistory.Edit {
+        private final int[] order;
+
+        ShuffleEdit(int[] order) { this.order = order; }
+
+        @Override public void undo() { applyPermutation(order, true); }
+        @Override public void redo() { applyPermutation(order, false); }
+        @Override public int estimatedBytes() { return 32 + 4 * order.length; }
+    }
+
     private void stylePrimaryButton(JButton button) {
         button.setFont(AppTheme.FONT_BUTTON);
         button.setBackground(AppTheme.ACCENT_PRIMARY);
@@ -154,17 +284,36 @@ public class ParticipantsPanel extends JPanel {
         });
     }
 
+    /**
+     * The glyph shows right away; the icon is decoded and scaled in the background and swapped in when ready,
+     * so image loading stays off the startup path.
+     */
     private JButton createIconButton(String iconPath, String toolTip) {
-        JButton button = new JButton();
+        JButton button = new JButton("\u21C6");
         button.setToolTipText(toolTip);
-        try {
-            ImageIcon icon = new ImageIcon(getClass().getResource(iconPath));
-            Image img = icon.getImage().getScaledInstance(20, 20, Image.SCALE_SMOOTH);
-            button.setIcon(new ImageIcon(img));
-        } catch (Exception e) {
-            button.setText("\u21C6");
-            button.setFont(new Font("Segoe UI Symbol", Font.PLAIN, 16));
-        }
+        button.setFont(new Font("Segoe UI Symbol", Font.PLAIN, 16));
+        new SwingWorker<Icon, Void>() {
+            @Override
+            protected Icon doInBackground() throws Exception {
+                BufferedImage source = ImageIO.read(ParticipantsPanel.class.getResource(iconPath));
+                BufferedImage scaled = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2d = scaled.createGraphics();
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g2d.drawImage(source, 0, 0, 20, 20, null);
+                g2d.dispose();
+                return new ImageIcon(scaled);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    button.setIcon(get());
+                    button.setText(null);
+                } catch (Exception e) {
+                    // Missing icon: keep the glyph
+                }
+            }
+        }.execute();
         button.setBackground(AppTheme.BACKGROUND_INPUT);
         button.setForeground(AppTheme.TEXT_PRIMARY);
         button.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
@@ -220,6 +369,11 @@ public class ParticipantsPanel extends JPanel {
             nameField.setBorder(BorderFactory.createCompoundBorder(
                 BorderFactory.createLineBorder(AppTheme.BORDER_COLOR),
                 BorderFactory.createEmptyBorder(5, 8, 5, 8)));
+            nameField.getDocument().addDocumentListener(new DocumentListener() {
+                public void insertUpdate(DocumentEvent e) { namesEditedSincePreview = true; }
+                public void removeUpdate(DocumentEvent e) { namesEditedSincePreview = true; }
+                public void changedUpdate(DocumentEvent e) { namesEditedSincePreview = true; }
+            });
             contentPanel.add(nameField, BorderLayout.CENTER);
             add(contentPanel, BorderLayout.CENTER);
 
@@ -254,13 +408,21 @@ public class ParticipantsPanel extends JPanel {
             nameField.setBackground(enabled ? AppTheme.BACKGROUND_INPUT : AppTheme.BACKGROUND_SIDEBAR);
         }
 
+        /**
+         * Dragging doesn't touch the real rows: a ghost follows the mouse and a line marks the drop slot, both
+         * painted by the list, and the target index is just y / rowHeight. The row moves once, on release.
+         */
         private class DragListener extends MouseAdapter {
              @Override
             public void mouseReleased(MouseEvent e) {
                 if (draggedPanel != null) {
                     draggedPanel.setBorder(defaultBorder);
-                    renumberRows();
-                    mainFrame.updateLiveBracketPreview(); 
+                    int dropIndex = listContainerPanel.getDropIndex();
+                    listContainerPanel.clearGhost();
+                    if (dropIndex >= 0 && dropIndex != dragStartIndex) {
+                        moveRow(dragStartIndex, dropIndex);
+                        mainFrame.getEditHistory().push(new MoveEdit(dragStartIndex, dropIndex));
+                    }
                 }
                 draggedPanel = null;
             }
@@ -270,6 +432,7 @@ public class ParticipantsPanel extends JPanel {
                 if (!startTournamentButton.isEnabled()) return;
                 draggedPanel = ParticipantRowPanel.this;
                 draggedPanel.setBorder(dragBorder);
+                dragStartIndex = listContainerPanel.getComponentZOrder(draggedPanel);
             }
 
             @Override
@@ -277,21 +440,72 @@ public class ParticipantsPanel extends JPanel {
                 if (draggedPanel == null) return;
                 
                 Point mousePos = SwingUtilities.convertPoint(draggedPanel, e.getPoint(), listContainerPanel);
-                int targetIndex = -1;
-                for (int i = 0; i < listContainerPanel.getComponentCount(); i++) {
-                    Component comp = listContainerPanel.getComponent(i);
-                    if (mousePos.y >= comp.getY() && mousePos.y <= comp.getY() + comp.getHeight()) {
-                        targetIndex = i;
-                        break;
-                    }
-                }
-                
-                if (targetIndex != -1 && targetIndex != listContainerPanel.getComponentZOrder(draggedPanel)) {
-                    listContainerPanel.setComponentZOrder(draggedPanel, targetIndex);
-                    listContainerPanel.revalidate();
-                    listContainerPanel.repaint();
-                }
+                int rowHeight = draggedPanel.getHeight();
+                int targetIndex = Math.max(0, Math.min(listContainerPanel.getComponentCount() - 1, mousePos.y / rowHeight));
+                listContainerPanel.showGhost(draggedPanel.getParticipantName(), mousePos.y - rowHeight / 2, rowHeight, targetIndex);
+            }
+        }
+    }
+
+    /**
+     * The row list, plus the drag ghost and drop marker painted over it. Moving the ghost only repaints
+     * the strips it leaves and enters.
+     */
+    private static class RowListPanel extends JPanel {
+        private String ghostText;
+        private int ghostY, rowHeight, dropIndex = -1;
+
+        void showGhost(String text, int y, int height, int index) {
+            Rectangle dirty = ghostBounds();
+            ghostText = text;
+            ghostY = y;
+            rowHeight = height;
+            dropIndex = index;
+            Rectangle next = ghostBounds();
+            if (dirty == null) dirty = next;
+            else dirty.add(next);
+            repaint(dirty);
+            scrollRectToVisible(new Rectangle(0, y, 1, height));
+        }
+
+        void clearGhost() {
+            Rectangle dirty = ghostBounds();
+            ghostText = null;
+            dropIndex = -1;
+            if (dirty != null) repaint(dirty);
+        }
+
+        int getDropIndex() { return dropIndex; }
+
+        // Ghost box and drop line together
+        private Rectangle ghostBounds() {
+            if (ghostText == null) return null;
+            Rectangle bounds = new Rectangle(0, ghostY - 2, getWidth(), rowHeight + 4);
+            bounds.add(new Rectangle(0, dropIndex * rowHeight - 2, getWidth(), 5));
+            return bounds;
+        }
+
+        @Override
+        protected void paintChildren(Graphics g) {
+            super.paintChildren(g);
+            if (ghostText == null) return;
+            Graphics2D g2d = (Graphics2D) g.create();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setColor(AppTheme.ACCENT_PRIMARY);
+                g2d.fillRect(0, dropIndex * rowHeight - 1, getWidth(), 3);
+
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.85f));
+                g2d.setColor(AppTheme.BACKGROUND_SIDEBAR_HOVER);
+                g2d.fillRoundRect(0, ghostY, getWidth() - 1, rowHeight - 1, 8, 8);
+                g2d.setColor(AppTheme.ACCENT_PRIMARY);
+                g2d.drawRoundRect(0, ghostY, getWidth() - 1, rowHeight - 1, 8, 8);
+                g2d.setFont(AppTheme.FONT_BODY_PLAIN);
+                g2d.setColor(AppTheme.TEXT_PRIMARY);
+                g2d.drawString(ghostText, 40, ghostY + rowHeight / 2 + 5);
+            } finally {
+                g2d.dispose();
             }
         }
     }
-}
\ No newline at end of file
+}
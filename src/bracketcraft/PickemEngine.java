@@ -0,0 +1,409 @@
+package bracketcraft;
+
+import javax.swing.SwingUtilities;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * -- PICK'EM CONTEST --
+ * Scores millions of spectator predictions of the bracket and keeps a top-k leaderboard current as results come in.
+ *
+ * A prediction is one bit per match in heap order, the same numbering {@link BracketSimulator} uses (node 1 is the
+ * final, node k is fed by 2k and 2k+1, the first round is the bottom level): a set bit means the bottom side
+ * (participant 2's half) wins it. Entries sit back to back in a memory-mapped file, {@code max(1, bracketSize / 64)}
+ * longs each after a 64 byte header, so the heap only holds one score per entry.
+ *
+ * A pick is right when the predicted winner of the match is the actual one, i.e. the bit agrees with the result and
+ * the pick below it on the winning side was right too. That's evaluated a whole round at a time per word:
+ * agreement is {@code ~(picks ^ results)}, the winning child's verdict is pulled up with a mask of winning sides and
+ * an even-bit compaction, and each round's hits are one popcount. Points double every round (1, 2, 4, ...). Entries
+ * are scored in chunks across all cores, each chunk keeping its own top-k, merged at the end.
+ *
+ * Registered as a {@link TournamentListener}, the engine snapshots the results on the EDT and rescores on its own
+ * thread; results that arrive while a rescore is running are folded into the next one.
+ */
+public class PickemEngine implements TournamentListener, Closeable {
+    private static final int MAGIC = 0x4243504B; // "BCPK"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SEGMENT_BYTES = 1 << 26;   // 64 MB mappings
+    private static final int CHUNK_ENTRIES = 1 << 14;
+    private static final long EVEN_BITS = 0x5555555555555555L;
+
+    /** One line of the leaderboard. */
+    public static final class Standing {
+        public final int entry, score;
+
+        Standing(int entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+
+        @Override
+        public String toString() { return "#" + entry + ": " + score; }
+    }
+
+    public interface Listener {
+        /** Called on the EDT after each rescore, best first. */
+        void leaderboardChanged(List<Standing> top);
+    }
+
+    /** The results a rescore works from: one bit per heap node in each mask, taken on the EDT. */
+    private static final class Outcome {
+        final long[] decided;     // match has a winner (or is a bye)
+        final long[] bottomWon;   // ... and it was participant 2
+        final long[] winningSide; // at child nodes: the child the decided parent's winner came from
+        final long[] scored;      // decided and a real match, not a bye
+        int levels;               // rounds that have anything decided, from the first
+
+        Outcome(int words) {
+            decided = new long[words];
+            bottomWon = new long[words];
+            winningSide = new long[words];
+            scored = new long[words];
+        }
+    }
+
+    private final Tournament tournament;
+    private final int bracketSize, roundCount, words;
+    private final long[][] roundMask;        // [round][word]: the round's nodes
+    private final int[] firstWord, lastWord; // per round, the words its nodes live in
+    private final long[] validPicks;         // nodes a prediction can actually choose (not byes, not past the bracket)
+    private final int topK;
+    private final int segmentShift;          // entries per segment = 1 << segmentShift
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final List<LongBuffer> segmentLongs = new ArrayList<>();
+    private int entryCount;
+
+    private final ExecutorService rescorer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "bracketcraft-pickem");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicReference<Outcome> pending = new AtomicReference<>();
+    private volatile int[] scores = new int[0];
+    private volatile List<Standing> leaderboard = Collections.emptyList();
+    private volatile Listener listener;
+
+    /**
+     * Opens (or creates) the entry file for the tournament's bracket and scores what's already in it.
+     * Call from the EDT, after the bracket is generated.
+     * @param topK leaderboard length
+     * @throws IOException if the file can't be opened or was made for a different bracket size.
+     */
+    public PickemEngine(File file, Tournament tournament, int topK) throws IOException {
+        if (tournament.getRounds().isEmpty()) throw new IllegalStateException("Generate the bracket first.");
+        this.tournament = tournament;
+        this.topK = topK;
+        this.bracketSize = Integer.highestOneBit(tournament.getParticipants().size() - 1) << 1;
+        this.roundCount = tournament.getRounds().size();
+        this.words = Math.max(1, bracketSize >> 6);
+        this.segmentShift = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(1, SEGMENT_BYTES / (words * 8))));
+
+        roundMask = new long[roundCount][words];
+        firstWord = new int[roundCount];
+        lastWord = new int[roundCount];
+        validPicks = new long[words];
+        for (int r = 0; r < roundCount; r++) {
+            int from = bracketSize >> (r + 1), to = bracketSize >> r;
+            for (int node = from; node < to; node++) roundMask[r][node >> 6] |= 1L << node;
+            firstWord[r] = from >> 6;
+            lastWord[r] = (to - 1) >> 6;
+            for (int w = 0; w < words; w++) validPicks[w] |= roundMask[r][w];
+        }
+        for (int slot = tournament.nextFirstRoundBye(0); slot >= 0; slot = tournament.nextFirstRoundBye(slot + 1)) {
+            int node = (bracketSize >> 1) + slot;
+            validPicks[node >> 6] &= ~(1L << node);   // the entrant on the bye always goes through on top
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        if (fresh) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putInt(8, bracketSize);
+            header.putInt(12, 0);
+        } else if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException(file + " is not a BracketCraft pick'em file.");
+        } else if (header.getInt(8) != bracketSize) {
+            channel.close();
+            throw new IOException(file + " holds predictions for a " + header.getInt(8) + "-slot bracket, not " + bracketSize + ".");
+        }
+        this.entryCount = header.getInt(12);
+        ensureCapacity(Math.max(1, entryCount));
+
+        tournament.addTournamentListener(this);
+        resultsRecorded(Collections.emptyList());
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // --- Entries ---
+
+    /** An empty prediction (top side wins everything), to be filled in with {@link #pickBottom}. */
+    public long[] newPicks() {
+        return new long[words];
+    }
+
+    /** Heap node of a match. */
+    public int nodeOf(Match match) {
+        return (bracketSize >> (match.getRound() + 1)) + match.getSlot();
+    }
+
+    /** Predicts that the bottom side (participant 2, or whoever comes out of that half) wins the match at {@code node}. */
+    public static void pickBottom(long[] picks, int node) {
+        picks[node >> 6] |= 1L << node;
+    }
+
+    /**
+     * Adds a prediction and returns its entry number. Picks on byes and outside the bracket are ignored.
+     * It's scored from the next rescore on; {@link #flush()} makes it durable.
+     */
+    public synchronized int submit(long[] picks) throws IOException {
+        if (picks.length != words) throw new IllegalArgumentException("A prediction for this bracket is " + words + " longs.");
+        int entry = entryCount;
+        ensureCapacity(entry + 1);
+        LongBuffer segment = segmentLongs.get(entry >> segmentShift);
+        int at = (entry & ((1 << segmentShift) - 1)) * words;
+        for (int w = 0; w < words; w++) segment.put(at + w, picks[w] & validPicks[w]);
+        // Publish only once the entry is down
+        entryCount = entry + 1;
+        header.putInt(12, entryCount);
+        return entry;
+    }
+
+    public synchronized int getEntryCount() { return entryCount; }
+
+    /** Forces submitted entries to disk. */
+    public synchronized void flush() {
+        for (MappedByteBuffer segment : segments) segment.force();
+        header.force();
+    }
+
+    private void ensureCapacity(int entries) throws IOException {
+        long segmentBytes = ((long) words * 8) << segmentShift;
+        while ((long) segments.size() << segmentShift < entries) {
+            long position = HEADER_BYTES + segments.size() * segmentBytes;
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentBytes);
+            segments.add(segment);
+            // Little endian on disk whatever the machine, which on x86 is also the fast way round
+            segmentLongs.add(segment.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+        }
+    }
+
+    // --- Scores ---
+
+    /** Best first; at most topK entries. */
+    public List<Standing> getLeaderboard() { return leaderboard; }
+
+    /** Score of one entry as of the last rescore (0 if it came in after it). */
+    public int getScore(int entry) {
+        int[] current = scores;
+        return entry < current.length ? current[entry] : 0;
+    }
+
+    @Override
+    public void resultsRecorded(List<Match> changed) {
+        // Snapshot now, on the EDT; a rescore already queued just picks up the newer snapshot
+        if (pending.getAndSet(outcomeOf()) != null) return;
+        rescorer.execute(() -> {
+            List<Standing> top = rescore(pending.getAndSet(null));
+            Listener l = listener;
+            if (l != null) SwingUtilities.invokeLater(() -> l.leaderboardChanged(top));
+        });
+    }
+
+    private Outcome outcomeOf() {
+        Outcome outcome = new Outcome(words);
+        List<List<Match>> rounds = tournament.getRounds();
+        for (int slot = tournament.nextFirstRoundBye(0); slot >= 0; slot = tournament.nextFirstRoundBye(slot + 1)) {
+            int node = (bracketSize >> 1) + slot;
+            outcome.decided[node >> 6] |= 1L << node;
+        }
+        for (int r = 0; r < roundCount; r++) {
+            for (Match match : LazyRound.materialized(rounds.get(r))) {
+                Participant winner = match.getWinner();
+                if (winner == null) continue;
+                int node = nodeOf(match);
+                long bit = 1L << node;
+                outcome.decided[node >> 6] |= bit;
+                outcome.scored[node >> 6] |= bit;
+                boolean bottom = winner == match.getParticipant2();
+                if (bottom) outcome.bottomWon[node >> 6] |= bit;
+                if (r > 0) {
+                    int child = (node << 1) | (bottom ? 1 : 0);
+                    outcome.winningSide[child >> 6] |= 1L << child;
+                }
+                outcome.levels = Math.max(outcome.levels, r + 1);
+            }
+        }
+        return outcome;
+    }
+
+    /** Rescores every entry against the outcome and publishes the new leaderboard. */
+    private List<Standing> rescore(Outcome outcome) {
+        long start = BracketMetrics.start();
+        BracketMetrics.PickemRescoreEvent rescoreEvent = new BracketMetrics.PickemRescoreEvent();
+        rescoreEvent.begin();
+        int count;
+        LongBuffer[] segmentsNow;
+        synchronized (this) {
+            count = entryCount;
+            segmentsNow = segmentLongs.toArray(new LongBuffer[0]);
+        }
+        int[] newScores = new int[count];
+        int chunks = (count + CHUNK_ENTRIES - 1) / CHUNK_ENTRIES;
+        long[][] chunkTops = new long[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            long[] picks = new long[words], correct = new long[words];
+            long[] heap = new long[topK];
+            int heapSize = 0;
+            int end = Math.min(count, (chunk + 1) * CHUNK_ENTRIES);
+            for (int entry = chunk * CHUNK_ENTRIES; entry < end; entry++) {
+                LongBuffer segment = segmentsNow[entry >> segmentShift];
+                int at = (entry & ((1 << segmentShift) - 1)) * words;
+                for (int w = 0; w < words; w++) picks[w] = segment.get(at + w);
+                int score = score(picks, correct, outcome);
+                newScores[entry] = score;
+                heapSize = offer(heap, heapSize, ((long) score << 32) | (0xFFFFFFFFL - entry));
+            }
+            chunkTops[chunk] = Arrays.copyOf(heap, heapSize);
+        });
+
+        // Merge the per-chunk tops; higher key is better (score first, then the earlier entry)
+        long[] all = Arrays.stream(chunkTops).flatMapToLong(Arrays::stream).sorted().toArray();
+        List<Standing> top = new ArrayList<>(Math.min(topK, all.length));
+        for (int i = all.length - 1; i >= 0 && top.size() < topK; i--) {
+            top.add(new Standing((int) (0xFFFFFFFFL - (all[i] & 0xFFFFFFFFL)), (int) (all[i] >>> 32)));
+        }
+        top = Collections.unmodifiableList(top);
+        scores = newScores;
+        leaderboard = top;
+        BracketMetrics.recordPickemRescore(start, count);
+        if (rescoreEvent.shouldCommit()) {
+            rescoreEvent.entries = count;
+            rescoreEvent.commit();
+        }
+        return top;
+    }
+
+    /** Points for one prediction; {@code correct} is scratch space. */
+    private int score(long[] picks, long[] correct, Outcome outcome) {
+        if (words == 1) return scoreOneWord(picks[0], outcome);
+        Arrays.fill(correct, 0L);
+        int score = 0;
+        for (int r = 0; r < outcome.levels; r++) {
+            long[] mask = roundMask[r];
+            int hits = 0;
+            for (int q = firstWord[r]; q <= lastWord[r]; q++) {
+                long right = ~(picks[q] ^ outcome.bottomWon[q]) & outcome.decided[q] & mask[q];
+                if (r > 0) {
+                    // Node 64q + j is fed by 128q + 2j and 128q + 2j + 1: words 2q and 2q + 1
+                    long fromChildren = evenBits(winningChild(correct, outcome, q << 1));
+                    if ((q << 1) + 1 < words) fromChildren |= evenBits(winningChild(correct, outcome, (q << 1) + 1)) << 32;
+                    right &= fromChildren;
+                }
+                correct[q] |= right;
+                hits += Long.bitCount(right & outcome.scored[q]);
+            }
+            score += hits << r;
+        }
+        return score;
+    }
+
+    /** {@link #score} for brackets of up to 64 slots, where every match is in one word; kept in registers. */
+    private int scoreOneWord(long picks, Outcome outcome) {
+        long agree = ~(picks ^ outcome.bottomWon[0]) & outcome.decided[0];
+        long winningSide = outcome.winningSide[0], scored = outcome.scored[0];
+        long correct = 0;
+        int score = 0;
+        for (int r = 0; r < outcome.levels; r++) {
+            long right = agree & roundMask[r][0];
+            if (r > 0) {
+                long t = correct & winningSide;
+                right &= evenBits(t | (t >>> 1));
+            }
+            correct |= right;
+            score += Long.bitCount(right & scored) << r;
+        }
+        return score;
+    }
+
+    /** At each even bit 2j of the word: whether the child the winner came from (2j or 2j + 1) was picked right. */
+    private static long winningChild(long[] correct, Outcome outcome, int word) {
+        long t = correct[word] & outcome.winningSide[word];
+        return (t | (t >>> 1)) & EVEN_BITS;
+    }
+
+    /** Packs the even bits of a word into its low 32 bits (bit 2j -> bit j). */
+    private static long evenBits(long x) {
+        x &= EVEN_BITS;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return x;
+    }
+
+    /** Min-heap of the best {@code heap.length} keys seen so far; returns the new size. */
+    private static int offer(long[] heap, int size, long key) {
+        if (heap.length == 0) return 0;
+        int i;
+        if (size < heap.length) {
+            i = size++;
+            while (i > 0 && heap[(i - 1) >> 1] > key) {
+                heap[i] = heap[(i - 1) >> 1];
+                i = (i - 1) >> 1;
+            }
+        } else {
+            if (key <= heap[0]) return size;
+            i = 0;
+            while (true) {
+                int child = (i << 1) + 1;
+                if (child >= size) break;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (heap[child] >= key) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+        }
+        heap[i] = key;
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        tournament.removeTournamentListener(this);
+        rescorer.shutdownNow();
+        synchronized (this) {
+            flush();
+            channel.close();
+        }
+    }
+}
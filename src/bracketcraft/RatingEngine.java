@@ -0,0 +1,156 @@
+package bracketcraft;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * -- ELO RATINGS --
+ * Keeps every participant's rating current as results come in, and rebuilds all ratings from the history archive.
+ *
+ * Live: registered as a {@link TournamentListener}, each decided match moves both players by K * (actual - expected).
+ * The applied delta is remembered per match, so a corrected score or an undo takes back exactly what it gave.
+ *
+ * Full recompute: Elo is order dependent, but only within a group of players connected by matches. The history is
+ * split into connected components with a union-find over the player graph, and the components are replayed in
+ * parallel, each one in time order. The result is the same as one sequential replay.
+ */
+public class RatingEngine implements TournamentListener {
+    public static final double INITIAL_RATING = 1500;
+    private static final double K_FACTOR = 32;
+
+    /** What one match did to its two players. */
+    private static final class Applied {
+        final Participant winner, loser;
+        final double delta;
+
+        Applied(Participant winner, Participant loser, double delta) {
+            this.winner = winner;
+            this.loser = loser;
+            this.delta = delta;
+        }
+    }
+
+    private final Map<Match, Applied> applied = new IdentityHashMap<>();
+
+    /** Chance the first player beats the second. */
+    public static double expectedScore(double rating, double opponentRating) {
+        return 1.0 / (1.0 + Math.pow(10, (opponentRating - rating) / 400.0));
+    }
+
+    // --- Incremental ---
+
+    @Override
+    public void resultsRecorded(List<Match> changed) {
+        for (Match match : changed) {
+            Participant winner = match.getWinner();
+            Applied previous = applied.get(match);
+            if (previous != null) {
+                if (winner == previous.winner && loserOf(match) == previous.loser) continue;
+                previous.winner.setRating(previous.winner.getRating() - previous.delta);
+                previous.loser.setRating(previous.loser.getRating() + previous.delta);
+                applied.remove(match);
+            }
+            if (winner == null) continue;
+            Participant loser = loserOf(match);
+            double delta = K_FACTOR * (1 - expectedScore(winner.getRating(), loser.getRating()));
+            winner.setRating(winner.getRating() + delta);
+            loser.setRating(loser.getRating() - delta);
+            applied.put(match, new Applied(winner, loser, delta));
+        }
+    }
+
+    private static Participant loserOf(Match match) {
+        return match.getWinner() == match.getParticipant1() ? match.getParticipant2() : match.getParticipant1();
+    }
+
+    // --- Full recompute ---
+
+    /**
+     * Replays a whole result history from scratch.
+     * @param winners winner id per result, oldest first
+     * @param losers  loser id per result, same order
+     * @param playerCount ids run from 0 to playerCount - 1
+     * @return the rating of every player id
+     */
+    public static double[] recompute(int[] winners, int[] losers, int playerCount) {
+        if (winners.length != losers.length) throw new IllegalArgumentException("Every result needs a winner and a loser.");
+        int n = winners.length;
+
+        // 1. Components of the player graph
+        int[] parent = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) parent[i] = i;
+        for (int i = 0; i < n; i++) {
+            int a = find(parent, winners[i]), b = find(parent, losers[i]);
+            if (a != b) parent[Math.max(a, b)] = Math.min(a, b);
+        }
+        int[] component = new int[playerCount];   // dense component number per player
+        int[] componentOfRoot = new int[playerCount];
+        Arrays.fill(componentOfRoot, -1);
+        int components = 0;
+        for (int i = 0; i < playerCount; i++) {
+            int root = find(parent, i);
+            if (componentOfRoot[root] < 0) componentOfRoot[root] = components++;
+            component[i] = componentOfRoot[root];
+        }
+
+        // 2. Counting sort of result indices by component; stable, so each bucket stays in time order
+        int[] start = new int[components + 1];
+        for (int i = 0; i < n; i++) start[component[winners[i]] + 1]++;
+        for (int c = 0; c < components; c++) start[c + 1] += start[c];
+        int[] order = new int[n];
+        int[] fill = Arrays.copyOf(start, components);
+        for (int i = 0; i < n; i++) order[fill[component[winners[i]]]++] = i;
+
+        // 3. Replay the components side by side; they never touch the same player
+        double[] ratings = new double[playerCount];
+        Arrays.fill(ratings, INITIAL_RATING);
+        IntStream.range(0, components).parallel().forEach(c -> {
+            for (int k = start[c]; k < start[c + 1]; k++) {
+                int result = order[k];
+                int w = winners[result], l = losers[result];
+                double delta = K_FACTOR * (1 - expectedScore(ratings[w], ratings[l]));
+                ratings[w] += delta;
+                ratings[l] -= delta;
+            }
+        });
+        return ratings;
+    }
+
+    /**
+     * Recomputes everyone in the archive. Reads the archive under its lock, then replays without it.
+     * @return rating by participant name
+     */
+    public static Map<String, Double> recompute(ResultsArchive archive) {
+        int[] winners, losers;
+        int nameCount;
+        synchronized (archive) {
+            winners = new int[archive.size()];
+            losers = new int[archive.size()];
+            archive.readResults(winners, losers);
+            nameCount = archive.nameCount();
+        }
+        double[] ratings = recompute(winners, losers, nameCount);
+        Map<String, Double> byName = new HashMap<>();
+        boolean[] played = new boolean[nameCount];  // tournament names share the id space; leave them out
+        for (int i = 0; i < winners.length; i++) {
+            played[winners[i]] = true;
+            played[losers[i]] = true;
+        }
+        for (int id = 0; id < nameCount; id++) {
+            if (played[id]) byName.put(archive.nameOf(id), ratings[id]);
+        }
+        return byName;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
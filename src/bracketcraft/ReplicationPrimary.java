@@ -0,0 +1,252 @@
+package bracketcraft;
+
+import javax.swing.SwingUtilities;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * -- REPLICATION (PRIMARY SIDE) --
+ * Ships the tournament to a hot standby ({@link ReplicationStandby}) over a plain TCP socket.
+ *
+ * Listens on loopback unless given another address. Both sides must hold the same shared secret: on connect each
+ * sends a random challenge and answers the other's with an HMAC-SHA256 of it, so neither side talks to anyone
+ * who can't prove the secret, and the secret itself never crosses the wire. The frames after that aren't encrypted;
+ * on an untrusted network, tunnel them.
+ *
+ * A standby that connects gets a snapshot (the serialized Tournament) followed by every change as it happens:
+ * each listener event becomes one frame holding the full state of the matches it touched, so undos and
+ * corrections replicate the same way as new results. Frames are {@code type:1 length:4 payload}.
+ *
+ * The EDT only encodes a few dozen bytes and offers them to a bounded queue; a sender thread drains whatever has
+ * piled up into a single write and flush, and sends a heartbeat when there's nothing to say. If the standby falls so
+ * far behind that the queue fills, recording doesn't wait: the backlog is dropped and replaced by a fresh snapshot.
+ * Snapshots are taken on the EDT as a {@link Tournament#copy()}, between events, so they never see a half-applied
+ * or rolled-back batch; the copy goes through the queue (which hands it over safely) and the sender thread does the
+ * slow part, serializing it. Changes recorded meanwhile queue up behind it as usual.
+ */
+public class ReplicationPrimary implements TournamentListener, Closeable {
+    static final byte FRAME_SNAPSHOT = 1;
+    static final byte FRAME_CHANGES = 2;
+    static final byte FRAME_HEARTBEAT = 3;
+    static final int HEARTBEAT_MS = 100;
+    static final int MATCH_BYTES = 7 * 4;   // round, slot, score1, score2, participant1, participant2, winner
+    static final int NONCE_BYTES = 16;
+    static final int PROOF_BYTES = 32;
+    static final int HANDSHAKE_TIMEOUT_MS = 2000;
+    static final int MAX_FRAME_BYTES = 1 << 28;
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final Tournament tournament;
+    private final ServerSocket serverSocket;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);   // frames, or a Tournament to snapshot
+    private final Map<Participant, Integer> participantIndex = new IdentityHashMap<>();   // position in the snapshot's list
+    private final byte[] secret;
+    private final SecureRandom random = new SecureRandom();
+    private volatile Socket standby;
+    private volatile boolean closed = false;
+
+    /**
+     * Starts listening for a standby on the given address (null for loopback) and port.
+     * Call from the EDT, after the bracket is generated.
+     * @throws IllegalArgumentException if the secret is empty.
+     */
+    public ReplicationPrimary(Tournament tournament, InetAddress bindAddress, int port, byte[] secret) throws IOException {
+        if (secret == null || secret.length == 0) throw new IllegalArgumentException("Replication needs a shared secret.");
+        this.tournament = tournament;
+        List<Participant> participants = tournament.getParticipants();
+        for (int i = 0; i < participants.size(); i++) participantIndex.put(participants.get(i), i);
+        this.secret = secret.clone();
+        this.serverSocket = new ServerSocket(port, 1, bindAddress != null ? bindAddress : InetAddress.getLoopbackAddress());
+        tournament.addTournamentListener(this);
+
+        Thread acceptor = new Thread(this::acceptLoop, "bracketcraft-replication-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public boolean hasStandby() {
+        return standby != null;
+    }
+
+    // --- EDT side ---
+
+    @Override
+    public void resultsRecorded(List<Match> changed) {
+        if (standby == null) return;
+        ByteBuffer frame = ByteBuffer.allocate(5 + 4 + changed.size() * MATCH_BYTES);
+        frame.put(FRAME_CHANGES).putInt(4 + changed.size() * MATCH_BYTES).putInt(changed.size());
+        for (Match m : changed) {
+            frame.putInt(m.getRound()).putInt(m.getSlot()).putInt(m.getScore1()).putInt(m.getScore2())
+                 .putInt(indexOf(m.getParticipant1())).putInt(indexOf(m.getParticipant2())).putInt(indexOf(m.getWinner()));
+        }
+        if (!queue.offer(frame.array())) {
+            // Standby is too far behind; don't make the desk wait, send everything again instead
+            requestSnapshot();
+        }
+    }
+
+    private int indexOf(Participant p) {
+        Integer index = p == null ? null : participantIndex.get(p);
+        return index == null ? -1 : index;
+    }
+
+    /** Replaces whatever is queued with a copy of the tournament as it is now, for the sender to serialize. EDT only. */
+    private void requestSnapshot() {
+        queue.clear();
+        queue.offer(tournament.copy());
+    }
+
+    // Sender thread; the copy is ours alone once it's off the queue
+    private static byte[] encodeSnapshot(Tournament copy) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[5]);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(copy);
+        }
+        byte[] frame = bytes.toByteArray();
+        ByteBuffer.wrap(frame).put(FRAME_SNAPSHOT).putInt(frame.length - 5);
+        return frame;
+    }
+
+    // --- Network side ---
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (standby != null) {
+                    // One standby at a time; a second one following us would take over alongside the first
+                    socket.close();
+                    continue;
+                }
+                if (!authenticate(socket)) {
+                    socket.close();
+                    continue;
+                }
+                socket.setTcpNoDelay(true);
+                standby = socket;
+                SwingUtilities.invokeLater(() -> {
+                    if (standby == socket) requestSnapshot();
+                });
+                Thread sender = new Thread(() -> sendLoop(socket), "bracketcraft-replication-send");
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException ex) {
+                if (closed) return;
+            }
+        }
+    }
+
+    private void sendLoop(Socket socket) {
+        byte[] heartbeat = {FRAME_HEARTBEAT, 0, 0, 0, 0};
+        List<Object> batch = new ArrayList<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024))) {
+            while (standby == socket) {
+                Object first = queue.poll(HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    out.write(heartbeat);
+                } else {
+                    // Everything that queued up while we waited goes out in one write
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    for (Object item : batch) {
+                        out.write(item instanceof Tournament ? encodeSnapshot((Tournament) item) : (byte[]) item);
+                    }
+                    batch.clear();
+                }
+                out.flush();
+            }
+        } catch (IOException | InterruptedException ex) {
+            // Standby went away; the next one to connect starts from a fresh snapshot
+        } finally {
+            if (standby == socket) dropStandby();
+        }
+    }
+
+    /**
+     * Challenge and response in both directions: we send a nonce, the standby sends its own nonce and its proof for
+     * ours, and we answer with our proof for its nonce. Anything else within the timeout and the connection is closed.
+     */
+    private boolean authenticate(Socket socket) {
+        try {
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            byte[] challenge = new byte[NONCE_BYTES];
+            random.nextBytes(challenge);
+            out.write(challenge);
+            out.flush();
+            byte[] standbyChallenge = new byte[NONCE_BYTES];
+            byte[] answer = new byte[PROOF_BYTES];
+            in.readFully(standbyChallenge);
+            in.readFully(answer);
+            if (!MessageDigest.isEqual(answer, proof(secret, "standby", challenge))) return false;
+            out.write(proof(secret, "primary", standbyChallenge));
+            out.flush();
+            socket.setSoTimeout(0);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /** HMAC-SHA256 of the other side's nonce, keyed with the secret; the label stops one side's answer being replayed as the other's. */
+    static byte[] proof(byte[] secret, String side, byte[] nonce) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            mac.update(side.getBytes(StandardCharsets.US_ASCII));
+            return mac.doFinal(nonce);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 isn't available: " + ex.getMessage(), ex);
+        }
+    }
+
+    private void dropStandby() {
+        Socket socket = standby;
+        standby = null;
+        queue.clear();
+        if (socket != null) {
+            try { socket.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        tournament.removeTournamentListener(this);
+        dropStandby();
+        try {
+            serverSocket.close();
+        } catch (SocketException ignored) {
+            // Already closed by the acceptor
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package bracketcraft;
+
+import javax.swing.SwingUtilities;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * -- REPLICATION (STANDBY SIDE) --
+ * Follows a {@link ReplicationPrimary}: keeps its own copy of the tournament up to date from the primary's frames,
+ * and takes over when the primary goes quiet. The primary heartbeats every 100 ms, so silence for
+ * {@link #TAKEOVER_AFTER_MS} means it's gone (crashed, unplugged, closed) and the standby promotes itself.
+ *
+ * Everything the listener sees happens on the EDT, in frame order.
+ *
+ * It only follows a primary that proves the shared secret (see {@link ReplicationPrimary}), and even then a snapshot
+ * is only deserialized through {@link #SNAPSHOT_FILTER}: the classes a Tournament is made of and nothing else.
+ */
+public class ReplicationStandby implements Closeable {
+    public static final int TAKEOVER_AFTER_MS = 600;
+    private static final int CONNECT_RETRY_MS = 500;
+    static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=1000;maxarray=" + (1 << 24) + ";bracketcraft.Tournament;bracketcraft.Match;bracketcraft.Participant;"
+            + "bracketcraft.LazyRound;java.util.ArrayList;java.util.BitSet;java.lang.Object;!*");
+
+    public interface Listener {
+        /** A complete copy of the primary's tournament; replaces whatever came before. */
+        void snapshotReceived(Tournament tournament);
+        /** The primary is gone. The last tournament received is now the live one. */
+        void takeover();
+    }
+
+    private final String host;
+    private final int port;
+    private final byte[] secret;
+    private final Listener listener;
+    private final Thread reader;
+    private volatile boolean closed = false;
+    private volatile Socket socket;
+    private Tournament tournament;   // EDT only
+
+    /** @throws IllegalArgumentException if the secret is empty. */
+    public ReplicationStandby(String host, int port, byte[] secret, Listener listener) {
+        if (secret == null || secret.length == 0) throw new IllegalArgumentException("Replication needs a shared secret.");
+        this.host = host;
+        this.port = port;
+        this.secret = secret.clone();
+        this.listener = listener;
+        this.reader = new Thread(this::readLoop, "bracketcraft-replication-standby");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void readLoop() {
+        boolean following = false;   // true once a snapshot has arrived; from then on silence means takeover
+        while (!closed) {
+            try (Socket s = new Socket()) {
+                socket = s;
+                s.connect(new InetSocketAddress(host, port), TAKEOVER_AFTER_MS);
+                s.setSoTimeout(TAKEOVER_AFTER_MS);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), 64 * 1024));
+                authenticate(in, new DataOutputStream(s.getOutputStream()));
+                while (!closed) {
+                    byte type = in.readByte();
+                    int length = in.readInt();
+                    if (length < 0 || length > ReplicationPrimary.MAX_FRAME_BYTES) throw new IOException("Bad frame length " + length);
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    if (type == ReplicationPrimary.FRAME_SNAPSHOT) {
+                        Tournament copy = decodeSnapshot(payload);
+                        following = true;
+                        SwingUtilities.invokeLater(() -> {
+                            tournament = copy;
+                            listener.snapshotReceived(copy);
+                        });
+                    } else if (type == ReplicationPrimary.FRAME_CHANGES) {
+                        SwingUtilities.invokeLater(() -> applyChanges(payload));
+                    }
+                }
+            } catch (SocketTimeoutException ex) {
+                if (following) break;   // heartbeats stopped
+            } catch (IOException | ClassNotFoundException ex) {
+                if (following) break;   // connection lost
+            }
+            if (!closed && !following) {
+                // Primary isn't up yet; keep knocking
+                try {
+                    Thread.sleep(CONNECT_RETRY_MS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+        if (!closed) SwingUtilities.invokeLater(listener::takeover);
+    }
+
+    /** Our half of the handshake: prove the secret for the primary's nonce, then check its proof for ours. */
+    private void authenticate(DataInputStream in, DataOutputStream out) throws IOException {
+        byte[] challenge = new byte[ReplicationPrimary.NONCE_BYTES];
+        in.readFully(challenge);
+        byte[] ownChallenge = new byte[ReplicationPrimary.NONCE_BYTES];
+        new SecureRandom().nextBytes(ownChallenge);
+        out.write(ownChallenge);
+        out.write(ReplicationPrimary.proof(secret, "standby", challenge));
+        out.flush();
+        byte[] answer = new byte[ReplicationPrimary.PROOF_BYTES];
+        in.readFully(answer);
+        if (!MessageDigest.isEqual(answer, ReplicationPrimary.proof(secret, "primary", ownChallenge))) {
+            throw new IOException("The primary doesn't know the replication secret.");
+        }
+    }
+
+    private static Tournament decodeSnapshot(byte[] payload) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            in.setObjectInputFilter(SNAPSHOT_FILTER);
+            return (Tournament) in.readObject();
+        }
+    }
+
+    /** Writes the shipped match states into our copy and lets its listeners (the display) know. */
+    private void applyChanges(byte[] payload) {
+        if (tournament == null) return; // sent before our snapshot, which already has it
+        ByteBuffer frame = ByteBuffer.wrap(payload);
+        int count = frame.getInt();
+        List<Participant> participants = tournament.getParticipants();
+        List<Match> changed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int round = frame.getInt(), slot = frame.getInt();
+            Match m = tournament.findMatch(round, slot);
+            int score1 = frame.getInt(), score2 = frame.getInt();
+            int p1 = frame.getInt(), p2 = frame.getInt(), winner = frame.getInt();
+            if (m == null) continue;
+            m.setScore1(score1);
+            m.setScore2(score2);
+            m.setParticipant1(p1 < 0 ? null : participants.get(p1));
+            m.setParticipant2(p2 < 0 ? null : participants.get(p2));
+            m.setWinner(winner < 0 ? null : participants.get(winner));
+            changed.add(m);
+        }
+        tournament.fireMatchesChanged(changed);
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        Socket s = socket;
+        if (s != null) s.close();
+        reader.interrupt();
+    }
+}
@@ -0,0 +1,104 @@
+package bracketcraft;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * -- RESULT JOURNAL --
+ * Append-only log of every change to match results, one line per batch:
+ * {@code <epoch millis> round:slot:score1:score2:winner ...}, winner 0 for none, 1 for the top entrant, 2 for the bottom.
+ * Each entry is the match's state after the batch, so results, corrections, undo/redo and series tallies all
+ * replay the same way. Entrants seated by an earlier stage aren't logged here; they replay from that stage's journal.
+ * The whole batch is written and flushed in one go, so a busy desk costs one disk write per batch, not per match.
+ */
+public class ResultJournal implements Closeable {
+    private final File file;
+    private final Writer writer;
+
+    public ResultJournal(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        this.file = file;
+        this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+    }
+
+    public synchronized void append(List<MatchState> states) throws IOException {
+        StringBuilder line = new StringBuilder(16 + states.size() * 14);
+        line.append(System.currentTimeMillis());
+        for (MatchState state : states) {
+            Match m = state.getMatch();
+            Participant winner = state.getWinner();
+            line.append(' ').append(m.getRound()).append(':').append(m.getSlot())
+                .append(':').append(state.getScore1()).append(':').append(state.getScore2())
+                .append(':').append(winner == null ? 0 : winner == m.getParticipant1() ? 1 : 2);
+        }
+        line.append('\n');
+        writer.write(line.toString());
+        writer.flush();
+    }
+
+    /**
+     * Re-applies a journal to a freshly generated copy of its bracket, batch by batch, through
+     * {@link Tournament#applyStates} (so the usual rules apply). Lines from before winners were logged
+     * ({@code round:slot:score1:score2}) are results and decide the higher score. A torn last line is ignored.
+     * @return the number of batches applied.
+     */
+    public static int replay(File file, Tournament tournament) throws IOException {
+        int batches = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String[] fields = line.trim().split(" ");
+                if (fields.length < 2) continue;
+                List<MatchState> states = new ArrayList<>(fields.length - 1);
+                try {
+                    for (int i = 1; i < fields.length; i++) states.add(parse(fields[i], tournament));
+                } catch (RuntimeException ex) {
+                    if (!reader.ready()) break;   // the last line, cut short by a crash
+                    throw new IOException("Line " + lineNumber + " of " + file + " is damaged: " + ex.getMessage(), ex);
+                }
+                try {
+                    tournament.applyStates(states);
+                } catch (IllegalArgumentException | IllegalStateException ex) {
+                    throw new IOException("Line " + lineNumber + " of " + file + " doesn't fit this bracket: " + ex.getMessage(), ex);
+                }
+                batches++;
+            }
+        }
+        return batches;
+    }
+
+    private static MatchState parse(String field, Tournament tournament) {
+        String[] parts = field.split(":");
+        if (parts.length != 4 && parts.length != 5) throw new IllegalArgumentException("bad entry " + field);
+        int round = Integer.parseInt(parts[0]), slot = Integer.parseInt(parts[1]);
+        int score1 = Integer.parseInt(parts[2]), score2 = Integer.parseInt(parts[3]);
+        int side = parts.length == 5 ? Integer.parseInt(parts[4]) : score1 > score2 ? 1 : 2;
+        Match match = tournament.findMatch(round, slot);
+        if (match == null) throw new IllegalArgumentException("no match at " + round + ":" + slot);
+        Participant winner = side == 0 ? null : side == 1 ? match.getParticipant1() : match.getParticipant2();
+        return new MatchState(match, score1, score2, winner);
+    }
+
+    public File getFile() { return file; }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
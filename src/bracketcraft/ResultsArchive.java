@@ -0,0 +1,450 @@
+package bracketcraft;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * -- RESULTS ARCHIVE --
+ * Every finished tournament, kept across runs so head-to-head and career questions don't need a spreadsheet.
+ *
+ * Two files side by side:
+ *   {@code <base>.names}   - string table, one name per line (participants and tournaments); the line number is the id.
+ *   {@code <base>.results} - a 64 byte header followed by fixed 40 byte match records, memory-mapped in segments:
+ *     {@code millis:8 tournament:4 a:4 b:4 scoreA:4 scoreB:4 prevPair:4 prevA:4 prevB:4}
+ *
+ * Each record links back to the previous record of the same pair and of each participant, so the files themselves
+ * are the index: the heap only holds the newest record per pair/participant (and win/loss totals), and a query
+ * walks its chain newest-first through the mapping. Nothing but the header count is ever rewritten; it's bumped
+ * only after the new names are synced and the records forced, so a crash mid-append just loses that tournament.
+ * On open, a half-written last name is dropped and records whose names never reached the disk are cut off.
+ */
+public class ResultsArchive implements Closeable {
+    private static final int MAGIC = 0x42435241; // "BCRA"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int RECORD_BYTES = 40;
+    private static final int RECORDS_PER_SEGMENT = 1 << 20;  // 40 MB mappings
+    private static final long SEGMENT_BYTES = (long) RECORDS_PER_SEGMENT * RECORD_BYTES;
+    private static final int NONE = -1;
+
+    /** Won/lost counts for one side of a query. */
+    public static final class Tally {
+        public final int wins, losses;
+
+        Tally(int wins, int losses) {
+            this.wins = wins;
+            this.losses = losses;
+        }
+
+        public int getPlayed() { return wins + losses; }
+
+        @Override
+        public String toString() { return wins + "-" + losses; }
+    }
+
+    /** One archived match, from the point of view of whoever asked. */
+    public static final class ArchivedMatch {
+        public final long millis;
+        public final String tournament, opponent;
+        public final int score, opponentScore;
+
+        ArchivedMatch(long millis, String tournament, String opponent, int score, int opponentScore) {
+            this.millis = millis;
+            this.tournament = tournament;
+            this.opponent = opponent;
+            this.score = score;
+            this.opponentScore = opponentScore;
+        }
+
+        public boolean isWin() { return score > opponentScore; }
+    }
+
+    private final File namesFile, resultsFile;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final FileOutputStream namesOut;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private int recordCount;
+
+    // Heads of the on-disk chains plus running totals, indexed by name id
+    private int[] lastOfParticipant = new int[0];
+    private int[] wins = new int[0];
+    private int[] losses = new int[0];
+    private final PairIndex lastOfPair = new PairIndex();
+
+    /**
+     * Opens (or creates) the archive at {@code base}.names / {@code base}.results.
+     * @throws IOException if the files can't be opened or aren't an archive.
+     */
+    public ResultsArchive(File base) throws IOException {
+        File parent = base.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+        this.namesFile = new File(base.getPath() + ".names");
+        this.resultsFile = new File(base.getPath() + ".results");
+
+        dropPartialLastName();
+        if (namesFile.isFile()) {
+            for (String name : Files.readAllLines(namesFile.toPath(), StandardCharsets.UTF_8)) {
+                ids.put(name, names.size());
+                names.add(name);
+            }
+        }
+        this.namesOut = new FileOutputStream(namesFile, true);
+
+        this.channel = FileChannel.open(resultsFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() == 0;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        if (fresh) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putInt(8, 0);
+        } else if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException(resultsFile + " is not a BracketCraft results archive.");
+        }
+        int count = header.getInt(8);
+        ensureCapacity(Math.max(1, count));
+        this.recordCount = rebuildHeads(count);
+    }
+
+    // --- Writing ---
+
+    /**
+     * Archives every decided match of the tournament (byes aren't matches) under the given time.
+     * All or nothing: if anything fails before the header is published, the in-memory chains, totals and names are
+     * as they were (and the new names are cut off the names file again), so a retry writes the same records afresh.
+     */
+    public synchronized void append(Tournament tournament, long millis) throws IOException {
+        int namesBefore = names.size();
+        long namesBytesBefore = namesOut.getChannel().size();
+        StringBuilder newNames = new StringBuilder();
+        int index = recordCount;
+        try {
+            int tournamentId = idOf(tournament.getTournamentName(), newNames);
+            // The chain heads each new record links back to; the real heads only move once the batch is published
+            Map<Long, Integer> pairHeads = new HashMap<>();
+            Map<Integer, Integer> participantHeads = new HashMap<>();
+            for (List<Match> round : tournament.getRounds()) {
+                for (Match m : LazyRound.materialized(round)) {
+                    Participant p1 = m.getParticipant1(), p2 = m.getParticipant2();
+                    if (p1 == null || p2 == null || m.getWinner() == null) continue;
+                    int a = idOf(p1.getName(), newNames), b = idOf(p2.getName(), newNames);
+                    long pair = pairKey(a, b);
+                    ensureCapacity(index + 1);
+                    writeRecord(index, millis, tournamentId, a, b, m.getScore1(), m.getScore2(),
+                            pairHeads.getOrDefault(pair, lastOfPair.get(pair)),
+                            participantHeads.getOrDefault(a, lastOfParticipant[a]),
+                            participantHeads.getOrDefault(b, lastOfParticipant[b]));
+                    pairHeads.put(pair, index);
+                    participantHeads.put(a, index);
+                    participantHeads.put(b, index);
+                    index++;
+                }
+            }
+            // Names first, all the way to the disk: a published record must never point past the names file
+            namesOut.write(newNames.toString().getBytes(StandardCharsets.UTF_8));
+            namesOut.getFD().sync();
+            for (int seg = recordCount / RECORDS_PER_SEGMENT; seg < segments.size(); seg++) segments.get(seg).force();
+            header.putInt(8, index);
+            header.force();
+        } catch (IOException | RuntimeException ex) {
+            header.putInt(8, recordCount);
+            forgetNames(namesBefore, namesBytesBefore);
+            throw ex;
+        }
+        // Published; now the heads and totals can follow
+        for (int i = recordCount; i < index; i++) linkRecord(i);
+        recordCount = index;
+    }
+
+    /**
+     * Undoes the names an unpublished append added, on disk and then in memory. If the file can't be cut back they
+     * stay known in memory as well, so ids keep matching line numbers; an unused name is harmless.
+     */
+    private void forgetNames(int count, long bytes) {
+        try {
+            namesOut.getChannel().truncate(bytes);
+        } catch (IOException ex) {
+            return;
+        }
+        for (int id = names.size() - 1; id >= count; id--) ids.remove(names.remove(id));
+    }
+
+    private void writeRecord(int index, long millis, int tournamentId, int a, int b, int scoreA, int scoreB,
+                             int prevPair, int prevA, int prevB) {
+        MappedByteBuffer segment = segments.get(index / RECORDS_PER_SEGMENT);
+        int at = (index % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+        segment.putLong(at, millis);
+        segment.putInt(at + 8, tournamentId);
+        segment.putInt(at + 12, a);
+        segment.putInt(at + 16, b);
+        segment.putInt(at + 20, scoreA);
+        segment.putInt(at + 24, scoreB);
+        segment.putInt(at + 28, prevPair);
+        segment.putInt(at + 32, prevA);
+        segment.putInt(at + 36, prevB);
+    }
+
+    /** Makes a written record the head of its chains and counts it. */
+    private void linkRecord(int index) {
+        MappedByteBuffer segment = segments.get(index / RECORDS_PER_SEGMENT);
+        int at = (index % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+        link(index, segment.getInt(at + 12), segment.getInt(at + 16), segment.getInt(at + 20) > segment.getInt(at + 24));
+    }
+
+    private void link(int index, int a, int b, boolean aWon) {
+        lastOfPair.put(pairKey(a, b), index);
+        lastOfParticipant[a] = index;
+        lastOfParticipant[b] = index;
+        if (aWon) {
+            wins[a]++;
+            losses[b]++;
+        } else {
+            wins[b]++;
+            losses[a]++;
+        }
+    }
+
+    /** The name's id, registering it (in memory, and as a line in {@code newNames} for the caller to write) if it's new. */
+    private int idOf(String name, StringBuilder newNames) {
+        // The names file is line based
+        String clean = name == null ? "" : name.replace('\n', ' ').replace('\r', ' ');
+        Integer id = ids.get(clean);
+        if (id != null) return id;
+        id = names.size();
+        names.add(clean);
+        ids.put(clean, id);
+        newNames.append(clean).append('\n');
+        growPerName(id + 1);
+        return id;
+    }
+
+    // --- Queries ---
+
+    /** Total matches archived. */
+    public synchronized int size() { return recordCount; }
+
+    /**
+     * {@code name}'s record against {@code opponent} since the given time (0 for all time).
+     * Walks only the matches between the two of them.
+     */
+    public synchronized Tally headToHead(String name, String opponent, long sinceMillis) {
+        Integer a = ids.get(name), b = ids.get(opponent);
+        if (a == null || b == null) return new Tally(0, 0);
+        int won = 0, lost = 0;
+        for (int i = lastOfPair.get(pairKey(a, b)); i != NONE; ) {
+            MappedByteBuffer segment = segments.get(i / RECORDS_PER_SEGMENT);
+            int at = (i % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+            if (segment.getLong(at) < sinceMillis) break; // chains run newest first
+            if (winnerOf(segment, at) == a) won++; else lost++;
+            i = segment.getInt(at + 28);
+        }
+        return new Tally(won, lost);
+    }
+
+    /** {@code name}'s all-time record. Kept as running totals, so this never touches the file. */
+    public synchronized Tally careerRecord(String name) {
+        Integer id = ids.get(name);
+        return id == null ? new Tally(0, 0) : new Tally(wins[id], losses[id]);
+    }
+
+    /** {@code name}'s record since the given time. */
+    public synchronized Tally careerRecord(String name, long sinceMillis) {
+        Integer id = ids.get(name);
+        if (id == null) return new Tally(0, 0);
+        int won = 0, lost = 0;
+        for (int i = lastOfParticipant[id]; i != NONE; ) {
+            MappedByteBuffer segment = segments.get(i / RECORDS_PER_SEGMENT);
+            int at = (i % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+            if (segment.getLong(at) < sinceMillis) break;
+            if (winnerOf(segment, at) == id) won++; else lost++;
+            i = nextOfParticipant(segment, at, id);
+        }
+        return new Tally(won, lost);
+    }
+
+    /** Up to {@code limit} of {@code name}'s most recent matches, newest first. */
+    public synchronized List<ArchivedMatch> recentMatches(String name, int limit) {
+        List<ArchivedMatch> matches = new ArrayList<>();
+        Integer id = ids.get(name);
+        if (id == null) return matches;
+        for (int i = lastOfParticipant[id]; i != NONE && matches.size() < limit; ) {
+            MappedByteBuffer segment = segments.get(i / RECORDS_PER_SEGMENT);
+            int at = (i % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+            boolean sideA = segment.getInt(at + 12) == id;
+            int opponent = segment.getInt(at + (sideA ? 16 : 12));
+            int score = segment.getInt(at + (sideA ? 20 : 24));
+            int opponentScore = segment.getInt(at + (sideA ? 24 : 20));
+            matches.add(new ArchivedMatch(segment.getLong(at), names.get(segment.getInt(at + 8)), names.get(opponent), score, opponentScore));
+            i = nextOfParticipant(segment, at, id);
+        }
+        return matches;
+    }
+
+    /** Number of distinct names (participants and tournaments); ids run from 0 to this - 1. */
+    public synchronized int nameCount() { return names.size(); }
+
+    public synchronized String nameOf(int id) { return names.get(id); }
+
+    /**
+     * Copies out every result as winner/loser name ids, oldest first, for a rating replay.
+     * @param winners and losers must each hold at least {@link #size()} entries.
+     */
+    public synchronized void readResults(int[] winners, int[] losers) {
+        for (int i = 0; i < recordCount; i++) {
+            MappedByteBuffer segment = segments.get(i / RECORDS_PER_SEGMENT);
+            int at = (i % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+            int a = segment.getInt(at + 12), b = segment.getInt(at + 16);
+            boolean aWon = segment.getInt(at + 20) > segment.getInt(at + 24);
+            winners[i] = aWon ? a : b;
+            losers[i] = aWon ? b : a;
+        }
+    }
+
+    private static int winnerOf(MappedByteBuffer segment, int at) {
+        return segment.getInt(at + 20) > segment.getInt(at + 24) ? segment.getInt(at + 12) : segment.getInt(at + 16);
+    }
+
+    private static int nextOfParticipant(MappedByteBuffer segment, int at, int id) {
+        return segment.getInt(at + (segment.getInt(at + 12) == id ? 32 : 36));
+    }
+
+    // --- Storage ---
+
+    /**
+     * Relinks the chains and totals from the records. Stops at the first record whose names didn't make it to disk
+     * (an archive written before names were synced, or a damaged names file) and cuts the count back to there,
+     * so the archive stays usable and only loses the tail.
+     * @return the number of records kept.
+     */
+    private int rebuildHeads(int count) {
+        growPerName(names.size());
+        for (int i = 0; i < count; i++) {
+            MappedByteBuffer segment = segments.get(i / RECORDS_PER_SEGMENT);
+            int at = (i % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+            int tournament = segment.getInt(at + 8), a = segment.getInt(at + 12), b = segment.getInt(at + 16);
+            if (!isName(tournament) || !isName(a) || !isName(b)) {
+                header.putInt(8, i);
+                header.force();
+                return i;
+            }
+            link(i, a, b, segment.getInt(at + 20) > segment.getInt(at + 24));
+        }
+        return count;
+    }
+
+    private boolean isName(int id) {
+        return id >= 0 && id < names.size();
+    }
+
+    /** A crash mid-write can leave half a name with no newline; drop it so the next name starts on its own line. */
+    private void dropPartialLastName() throws IOException {
+        if (!namesFile.isFile()) return;
+        try (FileChannel names = FileChannel.open(namesFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = names.size();
+            ByteBuffer one = ByteBuffer.allocate(1);
+            while (end > 0) {
+                one.clear();
+                names.read(one, end - 1);
+                if (one.get(0) == '\n') break;
+                end--;
+            }
+            if (end < names.size()) names.truncate(end);
+        }
+    }
+
+    /** Maps enough segments to hold {@code records}; mapping past the end grows the file. */
+    private void ensureCapacity(int records) throws IOException {
+        while ((long) segments.size() * RECORDS_PER_SEGMENT < records) {
+            long position = HEADER_BYTES + segments.size() * SEGMENT_BYTES;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_BYTES));
+        }
+    }
+
+    private void growPerName(int size) {
+        if (size <= lastOfParticipant.length) return;
+        int capacity = Math.max(size, lastOfParticipant.length * 2);
+        int old = lastOfParticipant.length;
+        lastOfParticipant = Arrays.copyOf(lastOfParticipant, capacity);
+        Arrays.fill(lastOfParticipant, old, capacity, NONE);
+        wins = Arrays.copyOf(wins, capacity);
+        losses = Arrays.copyOf(losses, capacity);
+    }
+
+    private static long pairKey(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        namesOut.close();
+        channel.close();
+    }
+
+    /**
+     * Open-addressing map from pair key to the newest record index. A HashMap<Long, Integer> would cost ~80 bytes
+     * per pair; this is 12.
+     */
+    private static final class PairIndex {
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        PairIndex() {
+            Arrays.fill(keys, -1L);
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+                if (keys[i] == -1L) return NONE;
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) resize();
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != -1L && keys[i] != key) i = (i + 1) & mask;
+            if (keys[i] == -1L) size++;
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(keys, -1L);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != -1L) put(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
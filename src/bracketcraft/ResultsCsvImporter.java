@@ -0,0 +1,131 @@
+package bracketcraft;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * -- RESULTS CSV IMPORT --
+ * Reads a scorekeeper sheet, one result per line: {@code participant1,participant2,score1,score2}.
+ * Blank lines, '#' comments and a header line are skipped. Rows can build on earlier rows of the same file
+ * (the winner of row 1 can play in row 5), so matches are resolved against the bracket as it will be after
+ * the earlier rows, not as it is now. The resulting list goes to {@link Tournament#recordResults(List)}.
+ */
+public final class ResultsCsvImporter {
+
+    /** One parsed line, not yet tied to a match. */
+    static final class Row {
+        final int lineNumber;
+        final String name1, name2;
+        final int score1, score2;
+
+        Row(int lineNumber, String name1, String name2, int score1, int score2) {
+            this.lineNumber = lineNumber;
+            this.name1 = name1;
+            this.name2 = name2;
+            this.score1 = score1;
+            this.score2 = score2;
+        }
+    }
+
+    private ResultsCsvImporter() {}
+
+    /**
+     * Parses the file. Only touches the disk, so it's safe off the EDT.
+     * @throws IllegalArgumentException with the line number if a line can't be read.
+     */
+    static List<Row> read(File file) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        List<Row> rows = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split(",");
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": expected participant1,participant2,score1,score2.");
+            }
+            try {
+                rows.add(new Row(i + 1, fields[0].trim(), fields[1].trim(),
+                        Integer.parseInt(fields[2].trim()), Integer.parseInt(fields[3].trim())));
+            } catch (NumberFormatException ex) {
+                if (rows.isEmpty() && i == firstContentLine(lines)) continue; // header
+                throw new IllegalArgumentException("Line " + (i + 1) + ": scores must be whole numbers.");
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Turns rows into results. Each row is matched to the match both participants would be in once the rows
+     * above it are applied; a row naming the two sides the other way round gets its scores swapped.
+     * @throws IllegalArgumentException with the line number for unknown names or players who can't meet.
+     */
+    static List<MatchResult> resolve(Tournament tournament, List<Row> rows) {
+        Map<String, Participant> byName = new HashMap<>();
+        for (Participant p : tournament.getParticipants()) byName.put(p.getName(), p);
+        Map<Participant, Match> firstMatch = new IdentityHashMap<>();
+        for (List<Match> round : tournament.getRounds()) {
+            for (Match m : LazyRound.materialized(round)) {
+                if (m.getParticipant1() != null) firstMatch.putIfAbsent(m.getParticipant1(), m);
+                if (m.getParticipant2() != null) firstMatch.putIfAbsent(m.getParticipant2(), m);
+            }
+        }
+
+        Map<Match, Participant> pendingWinners = new IdentityHashMap<>();
+        List<MatchResult> results = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Participant p1 = lookup(byName, row.name1, row);
+            Participant p2 = lookup(byName, row.name2, row);
+
+            Set<Match> pathOf2 = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Match m = firstMatch.get(p2); m != null; m = advances(m, p2, pendingWinners) ? m.getNextMatch() : null) {
+                pathOf2.add(m);
+            }
+            Match meeting = null, cameFrom = null;
+            for (Match m = firstMatch.get(p1); m != null; m = advances(m, p1, pendingWinners) ? m.getNextMatch() : null) {
+                if (pathOf2.contains(m)) {
+                    meeting = m;
+                    break;
+                }
+                cameFrom = m;
+            }
+            if (meeting == null) {
+                throw new IllegalArgumentException("Line " + row.lineNumber + ": " + row.name1 + " and " + row.name2 + " don't meet.");
+            }
+
+            // Winners of even slots play on top; where p1 hasn't played yet they're already placed in the match
+            boolean p1OnTop = cameFrom != null ? (cameFrom.getSlot() & 1) == 0 : meeting.getParticipant1() == p1;
+            results.add(p1OnTop ? new MatchResult(meeting, row.score1, row.score2)
+                                : new MatchResult(meeting, row.score2, row.score1));
+            pendingWinners.put(meeting, row.score1 > row.score2 ? p1 : p2);
+        }
+        return results;
+    }
+
+    private static Participant lookup(Map<String, Participant> byName, String name, Row row) {
+        Participant p = byName.get(name);
+        if (p == null) throw new IllegalArgumentException("Line " + row.lineNumber + ": unknown participant \"" + name + "\".");
+        return p;
+    }
+
+    private static boolean advances(Match m, Participant p, Map<Match, Participant> pendingWinners) {
+        Participant winner = pendingWinners.containsKey(m) ? pendingWinners.get(m) : m.getWinner();
+        return winner == p;
+    }
+
+    private static int firstContentLine(List<String> lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!line.isEmpty() && !line.startsWith("#")) return i;
+        }
+        return -1;
+    }
+}
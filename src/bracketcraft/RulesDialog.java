@@ -14,8 +14,9 @@ public class RulesDialog extends JDialog {
      * @param owner The parent frame.
      * @param isReadOnly If true, the text area will be non-editable.
      * @param tournament The tournament object holding the rules data.
+     * @param editHistory Saved changes are recorded here so they can be undone.
      */
-    public RulesDialog(Frame owner, boolean isReadOnly, Tournament tournament) {
+    public RulesDialog(Frame owner, boolean isReadOnly, Tournament tournament, EditHistory editHistory) {
         super(owner, "Tournament Rules", true);
         this.tournament = tournament; // Store the reference ( remove if have database :< )
         
@@ -63,7 +64,12 @@ public class RulesDialog extends JDialog {
             actionButton.setForeground(AppTheme.TEXT_ON_ACCENT);
             // --- Save rules before closing ---
             actionButton.addActionListener(e -> {
-                tournament.setRules(rulesTextArea.getText());
+                String before = tournament.getRules();
+                String after = rulesTextArea.getText();
+                if (!after.equals(before)) {
+                    tournament.setRules(after);
+                    editHistory.push(new RulesEdit(tournament, before, after));
+                }
                 dispose();
             });
         }
@@ -74,4 +80,23 @@ public class RulesDialog extends JDialog {
         buttonPanel.add(actionButton);
         add(buttonPanel, BorderLayout.SOUTH);
     }
-}
\ No newline at end of file
+
+    /**
+     * Undo entry for a rules change. Both versions of the text are kept, so it's charged by their length.
+     */
+    private static class RulesEdit implements EditHistory.Edit {
+        private final Tournament tournament;
+        private final String before;
+        private final String after;
+
+        RulesEdit(Tournament tournament, String before, String after) {
+            this.tournament = tournament;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override public void undo() { tournament.setRules(before); }
+        @Override public void redo() { tournament.setRules(after); }
+        @Override public int estimatedBytes() { return 64 + 2 * (before.length() + after.length()); }
+    }
+}
@@ -0,0 +1,36 @@
+package bracketcraft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * -- SEED MODEL --
+ * The seed order behind the live preview. Drag-reorders arrive as a single move(from, to) delta,
+ * which only shifts the seeds in between, instead of the preview re-reading and re-interning every row.
+ */
+public class SeedModel {
+    private final List<Participant> seeds = new ArrayList<>();
+
+    /** Replaces the whole order (after adds, removes, renames or a shuffle). */
+    public void reset(List<Participant> order) {
+        seeds.clear();
+        seeds.addAll(order);
+    }
+
+    /**
+     * Moves the seed at {@code from} to {@code to}; everything in between shifts by one. O(|to - from|).
+     */
+    public void move(int from, int to) {
+        if (from < 0 || from >= seeds.size() || to < 0 || to >= seeds.size()) {
+            throw new IndexOutOfBoundsException("Cannot move seed " + from + " to " + to + " of " + seeds.size());
+        }
+        if (from < to) Collections.rotate(seeds.subList(from, to + 1), -1);
+        else if (from > to) Collections.rotate(seeds.subList(to, from + 1), 1);
+    }
+
+    public int size() { return seeds.size(); }
+
+    /** Read-only view; copy it if it has to outlive the next edit. */
+    public List<Participant> asList() { return Collections.unmodifiableList(seeds); }
+}
@@ -0,0 +1,196 @@
+package bracketcraft;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * -- WIN ODDS PANEL --
+ * Runs the Monte Carlo simulator in the background and keeps a live table of everyone's chances,
+ * refreshed after every batch. Rerun after recording results to see the odds move.
+ */
+public class SimulationPanel extends JPanel {
+    private static final int BATCH_SIZE = 100_000;
+    private static final long TARGET_SIMULATIONS = 5_000_000;
+
+    private final MainFrame mainFrame;
+    private final OddsTableModel tableModel = new OddsTableModel();
+    private final JLabel statusLabel;
+    private final JButton runButton;
+    private SwingWorker<Void, Row[]> worker;
+
+    public SimulationPanel(MainFrame mainFrame) {
+        this.mainFrame = mainFrame;
+        setBackground(AppTheme.BACKGROUND_SIDEBAR);
+        setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        setLayout(new BorderLayout(10, 20));
+
+        JLabel titleLabel = new JLabel("WIN PROBABILITIES");
+        titleLabel.setFont(AppTheme.FONT_H1);
+        titleLabel.setForeground(AppTheme.TEXT_PRIMARY);
+        titleLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
+        add(titleLabel, BorderLayout.NORTH);
+
+        JTable table = new JTable(tableModel);
+        table.setFont(AppTheme.FONT_INPUT_LABEL);
+        table.setForeground(AppTheme.TEXT_PRIMARY);
+        table.setBackground(AppTheme.BACKGROUND_SIDEBAR);
+        table.setGridColor(AppTheme.BACKGROUND_SIDEBAR_HOVER);
+        table.setRowHeight(24);
+        table.setFillsViewportHeight(true);
+        table.getTableHeader().setFont(AppTheme.FONT_INPUT_LABEL);
+        table.getTableHeader().setReorderingAllowed(false);
+        DefaultTableCellRenderer percentRenderer = new DefaultTableCellRenderer();
+        percentRenderer.setHorizontalAlignment(SwingConstants.RIGHT);
+        for (int c = 1; c < tableModel.getColumnCount(); c++) {
+            table.getColumnModel().getColumn(c).setCellRenderer(percentRenderer);
+        }
+        table.getColumnModel().getColumn(0).setPreferredWidth(140);
+
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.getViewport().setBackground(AppTheme.BACKGROUND_SIDEBAR);
+        scrollPane.setBorder(null);
+        add(scrollPane, BorderLayout.CENTER);
+
+        statusLabel = new JLabel("Uses everyone's current Elo rating (" + (int) RatingEngine.INITIAL_RATING + " if new).");
+        statusLabel.setFont(AppTheme.FONT_INPUT_LABEL);
+        statusLabel.setForeground(AppTheme.TEXT_SECONDARY);
+
+        runButton = new JButton("Run Simulation");
+        stylePrimaryButton(runButton);
+        runButton.addActionListener(e -> toggleSimulation());
+
+        JPanel actionPanel = new JPanel(new BorderLayout(10, 10));
+        actionPanel.setOpaque(false);
+        actionPanel.add(statusLabel, BorderLayout.NORTH);
+        actionPanel.add(runButton, BorderLayout.SOUTH);
+        add(actionPanel, BorderLayout.SOUTH);
+    }
+
+    private void toggleSimulation() {
+        if (worker != null && !worker.isDone()) {
+            worker.cancel(false);
+            return;
+        }
+
+        Tournament tournament = mainFrame.getDisplayedTournament();
+        if (tournament == null || tournament.getRounds().isEmpty()) {
+            JOptionPane.showMessageDialog(this, "You need at least 2 participants to simulate.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        // Built on the EDT so it reads the bracket as it is right now; the worker only touches the simulator
+        List<Participant> participants = tournament.getParticipants();
+        double[] ratings = new double[participants.size()];
+        for (int i = 0; i < ratings.length; i++) ratings[i] = participants.get(i).getRating();
+        BracketSimulator simulator = new BracketSimulator(tournament, ratings, System.nanoTime());
+
+        worker = new SwingWorker<Void, Row[]>() {
+            @Override
+            protected Void doInBackground() {
+                while (!isCancelled() && simulator.getSimulationCount() < TARGET_SIMULATIONS) {
+                    simulator.run(BATCH_SIZE);
+                    publish(snapshot(simulator));
+                }
+                return null;
+            }
+
+            @Override
+            protected void process(List<Row[]> chunks) {
+                tableModel.setRows(chunks.get(chunks.size() - 1));
+                statusLabel.setText(String.format("%,d simulations", simulator.getSimulationCount()));
+            }
+
+            @Override
+            protected void done() {
+                runButton.setText("Run Simulation");
+                try {
+                    if (!isCancelled()) get();
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(SimulationPanel.this, "Simulation failed: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        };
+        runButton.setText("Stop");
+        worker.execute();
+    }
+
+    private static Row[] snapshot(BracketSimulator simulator) {
+        List<Participant> participants = simulator.getParticipants();
+        int rounds = simulator.getRoundCount();
+        Row[] rows = new Row[participants.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Row(participants.get(i).getName(),
+                    simulator.getChampionProbability(i),
+                    simulator.getProbability(i, rounds - 1),
+                    rounds >= 2 ? simulator.getProbability(i, rounds - 2) : 1.0);
+        }
+        Arrays.sort(rows, (a, b) -> Double.compare(b.champion, a.champion));
+        return rows;
+    }
+
+    // --- Table ---
+
+    private static class Row {
+        final String name;
+        final double champion, finalist, semifinalist;
+
+        Row(String name, double champion, double finalist, double semifinalist) {
+            this.name = name;
+            this.champion = champion;
+            this.finalist = finalist;
+            this.semifinalist = semifinalist;
+        }
+    }
+
+    private static class OddsTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Participant", "Champion", "Final", "Semis"};
+        private Row[] rows = new Row[0];
+
+        void setRows(Row[] rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override public int getRowCount() { return rows.length; }
+        @Override public int getColumnCount() { return COLUMNS.length; }
+        @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Row row = rows[rowIndex];
+            switch (columnIndex) {
+                case 0: return row.name;
+                case 1: return percent(row.champion);
+                case 2: return percent(row.finalist);
+                default: return percent(row.semifinalist);
+            }
+        }
+
+        private static String percent(double p) {
+            return String.format("%.1f%%", p * 100);
+        }
+    }
+
+    private void stylePrimaryButton(JButton button) {
+        button.setFont(AppTheme.FONT_BUTTON);
+        button.setBackground(AppTheme.ACCENT_PRIMARY);
+        button.setForeground(AppTheme.TEXT_ON_ACCENT);
+        button.setFocusPainted(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
+
+        Color original = AppTheme.ACCENT_PRIMARY;
+        Color hover = original.brighter();
+        button.addMouseListener(new MouseAdapter() {
+            public void mouseEntered(MouseEvent evt) { button.setBackground(hover); }
+            public void mouseExited(MouseEvent evt) { button.setBackground(original); }
+        });
+    }
+}
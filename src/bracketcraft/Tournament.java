@@ -1,16 +1,40 @@
 package bracketcraft;
 
 import javax.swing.JOptionPane;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
 
 public class Tournament implements Serializable {
     private String tournamentName;
     private List<Participant> participants;
     private final List<List<Match>> rounds;
+    private final BitSet firstRoundByes = new BitSet();
+    private transient List<TournamentListener> listeners;
+    private transient ResultJournal resultJournal;
     private String rules;
+    private boolean seedByRating = false;
+    private int qualifierCount = 1;
+    private int[] bestOfByRound;             // null = every round is a single game
+    private Participant[] byeQualifiers;     // only when a one-round stage sends someone through on a bye
+    private transient AdvancementCheck advancementCheck;
+
+    /**
+     * Lets whoever depends on a winner (the next stage of an {@link EventPipeline}) refuse a result before it's applied.
+     */
+    interface AdvancementCheck {
+        /** @throws IllegalStateException to reject the result; the batch rolls back like any other rejection. */
+        void check(Match match, Participant newWinner);
+    }
 
     public Tournament(String tournamentName, List<Participant> initialParticipants) {
         this.tournamentName = tournamentName;
@@ -25,6 +49,11 @@ public class Tournament implements Serializable {
     public void generateBracket(String bracketType) {
         if (participants == null || participants.size() < 2) return;
         rounds.clear();
+        firstRoundByes.clear();
+        byeQualifiers = null;
+        long generateStart = BracketMetrics.start();
+        BracketMetrics.GenerateEvent generateEvent = new BracketMetrics.GenerateEvent();
+        generateEvent.begin();
 
         switch (bracketType) {
             case "Single Elimination":
@@ -48,96 +77,439 @@ public class Tournament implements Serializable {
                 JOptionPane.showMessageDialog(null, "The selected bracket type is not recognized.", "Error", JOptionPane.ERROR_MESSAGE);
                 break;
         }
+
+        BracketMetrics.recordGenerate(generateStart);
+        if (generateEvent.shouldCommit()) {
+            generateEvent.bracketType = bracketType;
+            generateEvent.participants = participants.size();
+            for (List<Match> round : rounds) generateEvent.matches += round.size();
+            generateEvent.commit();
+        }
     }
 
     /**
      * -- SEEDING LOGIC --
      * Generates a standard single-elimination bracket.
+     * Byes are worked out from the seed order instead of padding the field with empty slots: a first-round pair
+     * is a match only if both of its seeds exist, otherwise the lower seed goes straight into round 2.
+     * Pairs that are byes get no Match at all and are recorded in {@link #isFirstRoundBye(int)}.
      */
     private void generateSingleElimination() {
-        List<Participant> seededParticipants = new ArrayList<>(this.participants);
-        int numParticipants = seededParticipants.size();
+        // Seeds are list positions; by rating, the list is reordered highest first (stable, so ties keep list order)
+        List<Participant> participants = this.participants;
+        if (seedByRating) {
+            participants = new ArrayList<>(participants);
+            participants.sort(Comparator.comparingDouble(Participant::getRating).reversed());
+        }
+        int numParticipants = participants.size();
+        int bracketSize = Integer.highestOneBit(numParticipants - 1) << 1;
+        // A stage that sends several qualifiers on stops at the round that has one match per qualifier
+        int roundCount = Integer.numberOfTrailingZeros(bracketSize) - Integer.numberOfTrailingZeros(qualifierCount);
+        if (roundCount < 1) {
+            throw new IllegalStateException(qualifierCount + " qualifiers need more than " + numParticipants + " participants.");
+        }
 
-        // 1. Calculate bracket size (the next power of 2)
-        int bracketSize = (int) Math.pow(2, Math.ceil(Math.log(numParticipants) / Math.log(2)));
+        // 1. Rounds 2+ are always full and start out empty; they're lazy, a match is created the first time
+        //    something reaches for it (see LazyRound). Built last to first so each knows the round it feeds.
+        LazyRound[] laterRounds = new LazyRound[Math.max(0, roundCount - 1)];
+        for (int r = roundCount - 1; r >= 1; r--) {
+            laterRounds[r - 1] = new LazyRound(r, bracketSize >> (r + 1), r + 1 < roundCount ? laterRounds[r] : null);
+        }
+        LazyRound secondRound = laterRounds.length > 0 ? laterRounds[0] : null;
 
-        // 2. Create a list of all potential slots in the first round.
-        List<Participant> roundOneSlots = new ArrayList<>(Collections.nCopies(bracketSize, null));
+        // 2. First round: one match per pair of real seeds, everything else is a bye
+        List<Match> firstRoundMatches = new ArrayList<>(numParticipants - (bracketSize >> 1));
+        for (int slot = 0; slot < bracketSize >> 1; slot++) {
+            int seed1 = seedAt(slot << 1, bracketSize);
+            int seed2 = seedAt((slot << 1) | 1, bracketSize);
 
-        // 3. Place participants into the slots according to standard seeding rules.
-        if (numParticipants > 0) {
-            List<Integer> currentSeeds = new ArrayList<>();
-            currentSeeds.add(1);
-            
-            while (currentSeeds.size() * 2 <= bracketSize) {
-                List<Integer> nextSeeds = new ArrayList<>();
-                int sum = currentSeeds.size() * 2 + 1;
-                for (int seed : currentSeeds) {
-                    nextSeeds.add(seed);
-                    nextSeeds.add(sum - seed);
-                }
-                currentSeeds = nextSeeds;
+            if (seed1 <= numParticipants && seed2 <= numParticipants) {
+                Match m = new Match(participants.get(seed1 - 1), participants.get(seed2 - 1));
+                m.setPosition(0, slot);
+                m.setNextRound(secondRound);
+                firstRoundMatches.add(m);
+            } else {
+                firstRoundByes.set(slot);
+                Participant advancing = participants.get(Math.min(seed1, seed2) - 1);
+                // A bye puts someone in a second-round match right away, so that one does get created now
+                Match next = secondRound != null ? secondRound.get(slot >> 1) : null;
+                if (next == null) {
+                    if (byeQualifiers == null) byeQualifiers = new Participant[bracketSize >> 1];
+                    byeQualifiers[slot] = advancing;
+                } else if ((slot & 1) == 0) next.setParticipant1(advancing);
+                else next.setParticipant2(advancing);
             }
-            
-            for(int i = 0; i < numParticipants; i++) {
-                int seedToPlace = i + 1;
-                int slotIndex = currentSeeds.indexOf(seedToPlace);
-                roundOneSlots.set(slotIndex, seededParticipants.get(i));
+        }
+
+        this.rounds.add(firstRoundMatches);
+        this.rounds.addAll(Arrays.asList(laterRounds));
+    }
+
+    /**
+     * A deep copy that shares nothing mutable with this tournament, participants included, so another thread can
+     * read it (serialize it for a standby) while this one keeps changing. Listeners, journal and checks aren't copied.
+     * One allocation per participant and per existing match; untouched lazy matches stay uncreated.
+     */
+    Tournament copy() {
+        Map<Participant, Participant> copies = new IdentityHashMap<>();
+        UnaryOperator<Participant> copyOf = p -> p == null ? null : copies.computeIfAbsent(p, Participant::copy);
+        List<Participant> participantCopies = new ArrayList<>(participants.size());
+        for (Participant p : participants) participantCopies.add(copyOf.apply(p));
+
+        Tournament copy = new Tournament(tournamentName, participantCopies);
+        copy.rules = rules;
+        copy.seedByRating = seedByRating;
+        copy.qualifierCount = qualifierCount;
+        copy.bestOfByRound = bestOfByRound == null ? null : bestOfByRound.clone();
+        copy.firstRoundByes.or(firstRoundByes);
+        if (byeQualifiers != null) {
+            copy.byeQualifiers = new Participant[byeQualifiers.length];
+            for (int i = 0; i < byeQualifiers.length; i++) copy.byeQualifiers[i] = copyOf.apply(byeQualifiers[i]);
+        }
+        if (rounds.isEmpty()) return copy;
+
+        // Last round first, so every match's next match already has its copy
+        LazyRound[] laterRounds = new LazyRound[rounds.size() - 1];
+        for (int r = rounds.size() - 1; r >= 1; r--) {
+            LazyRound next = r + 1 < rounds.size() ? laterRounds[r] : null;
+            laterRounds[r - 1] = ((LazyRound) rounds.get(r)).copy(next, m -> m.copy(copyOf, next));
+        }
+        LazyRound secondRound = laterRounds.length > 0 ? laterRounds[0] : null;
+        List<Match> firstRound = new ArrayList<>(rounds.get(0).size());
+        for (Match m : rounds.get(0)) firstRound.add(m.copy(copyOf, secondRound));
+        copy.rounds.add(firstRound);
+        copy.rounds.addAll(Arrays.asList(laterRounds));
+        return copy;
+    }
+
+    /**
+     * Seed (1-based) sitting in the given first-round position of a bracket of {@code bracketSize} positions,
+     * in standard order (1 v 16, 8 v 9, ...). Walks the position's bits from the top: every 1 bit mirrors the
+     * seed inside the next doubling, s -> 2^level + 1 - s.
+     */
+    static int seedAt(int position, int bracketSize) {
+        int levels = Integer.numberOfTrailingZeros(bracketSize);
+        int seed = 1;
+        for (int level = 1; level <= levels; level++) {
+            if (((position >> (levels - level)) & 1) != 0) seed = (1 << level) + 1 - seed;
+        }
+        return seed;
+    }
+
+    /** First-round position of a seed; the inverse of {@link #seedAt(int, int)}. */
+    static int positionOf(int seed, int bracketSize) {
+        int levels = Integer.numberOfTrailingZeros(bracketSize);
+        int position = 0;
+        for (int level = levels; level >= 1; level--) {
+            if (seed > 1 << (level - 1)) {
+                position |= 1 << (levels - level);
+                seed = (1 << level) + 1 - seed;
             }
         }
-        
-        // 4. Create the first round of matches from the slots.
-        List<Match> firstRoundMatches = new ArrayList<>();
-        List<Object> advancingEntities = new ArrayList<>(); // Can hold Participants (byes) or Matches
-        
-        for (int i = 0; i < bracketSize; i += 2) {
-            Participant p1 = roundOneSlots.get(i);
-            Participant p2 = roundOneSlots.get(i + 1);
-
-            if (p1 != null && p2 != null) { // A standard match
-                Match m = new Match(p1, p2);
-                firstRoundMatches.add(m);
-                advancingEntities.add(m);
-            } else if (p1 != null) { // p1 has a bye (AKA free Win)
-                advancingEntities.add(p1);
-            } else if (p2 != null) { // p2 has a bye
-                advancingEntities.add(p2);
+        return position;
+    }
+
+    // --- Series ---
+
+    /** Makes every match of the round a best-of-{@code bestOf} series (1 = a single game). */
+    public void setBestOf(int round, int bestOf) {
+        if (bestOf < 1 || bestOf % 2 == 0) throw new IllegalArgumentException("A series must be an odd number of games.");
+        if (bestOfByRound == null) {
+            if (bestOf == 1) return;
+            bestOfByRound = new int[Math.max(rounds.size(), round + 1)];
+            Arrays.fill(bestOfByRound, 1);
+        } else if (round >= bestOfByRound.length) {
+            int old = bestOfByRound.length;
+            bestOfByRound = Arrays.copyOf(bestOfByRound, round + 1);
+            Arrays.fill(bestOfByRound, old, round + 1, 1);
+        }
+        bestOfByRound[round] = bestOf;
+    }
+
+    public int getBestOf(int round) {
+        return bestOfByRound == null || round >= bestOfByRound.length ? 1 : bestOfByRound[round];
+    }
+
+    /**
+     * -- GAME ENTRY --
+     * Adds one game to a series. The match score is the series tally (games won) and the new game counts on top of
+     * it, so a series whose earlier games aren't stored here (taken over from a primary) carries on correctly.
+     * The game that wins the series is recorded through {@link #recordResults} like any result, so it advances,
+     * journals and notifies as usual.
+     * Games before that only update the tally, through {@link #applyStates}, so they're journaled too.
+     * @throws IllegalArgumentException for a tie, bad points or unknown participants.
+     * @throws IllegalStateException if the series is already over, or the deciding result is rejected
+     *         (the game is taken back out then).
+     */
+    public void recordGame(Match match, int points1, int points2) {
+        if (match.getParticipant1() == null || match.getParticipant2() == null
+                || match.getParticipant1().isPlaceholder() || match.getParticipant2().isPlaceholder()) {
+            throw new IllegalArgumentException("Both participants must be known before a game can be recorded.");
+        }
+        if (points1 < 0 || points2 < 0 || points1 > 0xFFFF || points2 > 0xFFFF) {
+            throw new IllegalArgumentException("Game scores must be between 0 and 65535.");
+        }
+        if (points1 == points2) throw new IllegalArgumentException("A game cannot end in a tie.");
+        if (match.getWinner() != null) throw new IllegalStateException("This series is already decided.");
+
+        // The tally is what's authoritative: a standby or a snapshot carries it, not necessarily the games behind it
+        match.addGame(points1, points2);
+        int wins1 = match.getScore1() + (points1 > points2 ? 1 : 0);
+        int wins2 = match.getScore2() + (points2 > points1 ? 1 : 0);
+        int needed = getBestOf(match.getRound()) / 2 + 1;
+        if (wins1 >= needed || wins2 >= needed) {
+            try {
+                recordResults(Collections.singletonList(new MatchResult(match, wins1, wins2)));
+            } catch (RuntimeException ex) {
+                match.removeLastGame();
+                throw ex;
             }
-            // If both are null (in a very large empty bracket),just do nothing.
-        }
-        if (!firstRoundMatches.isEmpty()) {
-            this.rounds.add(firstRoundMatches);
-        }
-        
-        // 5. Generate all subsequent rounds from the advancing entities.
-        List<Object> currentAdvancers = advancingEntities;
-        while (currentAdvancers.size() > 1) {
-            List<Match> nextRoundMatches = new ArrayList<>();
-            List<Object> nextRoundAdvancers = new ArrayList<>();
-            for (int i = 0; i < currentAdvancers.size(); i += 2) {
-                Match newMatch = new Match();
-                Object entity1 = currentAdvancers.get(i);
-                Object entity2 = currentAdvancers.get(i + 1);
-
-                if (entity1 instanceof Participant) newMatch.setParticipant1((Participant) entity1);
-                else ((Match) entity1).setNextMatch(newMatch);
-
-                if (entity2 instanceof Participant) newMatch.setParticipant2((Participant) entity2);
-                else ((Match) entity2).setNextMatch(newMatch);
-                
-                nextRoundMatches.add(newMatch);
-                nextRoundAdvancers.add(newMatch);
+        } else {
+            try {
+                applyStates(Collections.singletonList(new MatchState(match, wins1, wins2, null)));
+            } catch (RuntimeException ex) {
+                match.removeLastGame();
+                throw ex;
             }
-            this.rounds.add(nextRoundMatches);
-            currentAdvancers = nextRoundAdvancers;
         }
     }
 
+    // --- Qualifiers ---
+
+    /**
+     * How many participants this bracket sends on: 1 (the default) plays down to a champion, any other power of two
+     * stops at the round with that many matches. Takes effect on the next {@link #generateBracket}.
+     */
+    public void setQualifierCount(int qualifierCount) {
+        if (qualifierCount < 1 || Integer.bitCount(qualifierCount) != 1) {
+            throw new IllegalArgumentException("The number of qualifiers must be a power of two.");
+        }
+        this.qualifierCount = qualifierCount;
+    }
+
+    public int getQualifierCount() { return qualifierCount; }
+
+    /** The match deciding qualifier {@code index}, or null if that spot went through on a first-round bye. */
+    public Match getQualifyingMatch(int index) {
+        return findMatch(rounds.size() - 1, index);
+    }
+
+    /** The match at a grid position, or null for a first-round bye. */
+    public Match findMatch(int round, int slot) {
+        List<Match> matches = rounds.get(round);
+        if (round > 0) return matches.get(slot);
+        // The first round is compacted, so look the slot up
+        int lo = 0, hi = matches.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int at = matches.get(mid).getSlot();
+            if (at == slot) return matches.get(mid);
+            if (at < slot) lo = mid + 1; else hi = mid - 1;
+        }
+        return null;
+    }
+
+    /** Who holds qualifier spot {@code index} right now, or null while it's still being played for. */
+    public Participant getQualifier(int index) {
+        Match match = getQualifyingMatch(index);
+        return match != null ? match.getWinner() : byeQualifiers[index];
+    }
+
+    void setAdvancementCheck(AdvancementCheck advancementCheck) {
+        this.advancementCheck = advancementCheck;
+    }
+
+    /**
+     * Tells listeners about matches changed from outside result entry (an earlier stage filling in an entrant).
+     */
+    void fireMatchesChanged(List<Match> changed) {
+        if (listeners == null) return;
+        List<Match> event = Collections.unmodifiableList(changed);
+        for (TournamentListener listener : new ArrayList<>(listeners)) listener.resultsRecorded(event);
+    }
+
+    /** True if the first-round slot has no match because one of its two seeds doesn't exist. */
+    public boolean isFirstRoundBye(int slot) {
+        return firstRoundByes.get(slot);
+    }
+
+    /** First bye slot at or after {@code slot}, or -1 if there are no more. */
+    int nextFirstRoundBye(int slot) {
+        return firstRoundByes.nextSetBit(slot);
+    }
+
+    public int getByeCount() {
+        return firstRoundByes.cardinality();
+    }
+
+    /**
+     * -- RESULT ENTRY --
+     * Records a final score, decides the winner and moves them into their slot of the next match.
+     * @throws IllegalArgumentException if the match isn't ready or the score is a tie.
+     * @throws IllegalStateException if changing the winner would contradict a next match that is already decided.
+     */
+    public void recordResult(Match match, int score1, int score2) {
+        recordResults(Collections.singletonList(new MatchResult(match, score1, score2)));
+    }
+
+    /**
+     * -- BATCH RESULT ENTRY --
+     * Records many results as one unit. They're applied in order, so a batch may decide a match and then the
+     * match it feeds. If any result is rejected (or the journal can't be written) everything before it is
+     * rolled back and nothing changes. A successful batch is one journal record and one listener event.
+     * @throws IllegalArgumentException / IllegalStateException like {@link #recordResult}, prefixed with the
+     *         position of the offending result when there is more than one.
+     */
+    public void recordResults(List<MatchResult> results) {
+        applyBatch(results.size(), i -> {
+            MatchResult result = results.get(i);
+            Match match = result.getMatch();
+            int score1 = result.getScore1(), score2 = result.getScore2();
+            if (match.getParticipant1() == null || match.getParticipant2() == null
+                    || match.getParticipant1().isPlaceholder() || match.getParticipant2().isPlaceholder()) {
+                throw new IllegalArgumentException("Both participants must be known before a result can be recorded.");
+            }
+            if (score1 < 0 || score2 < 0) {
+                throw new IllegalArgumentException("Scores cannot be negative.");
+            }
+            if (score1 == score2) {
+                throw new IllegalArgumentException("A match cannot end in a tie.");
+            }
+            return new MatchState(match, score1, score2, score1 > score2 ? match.getParticipant1() : match.getParticipant2());
+        });
+    }
+
+    /**
+     * -- STATE ENTRY --
+     * Puts matches into exact states, winner included (null takes a result back): undo/redo and series tallies.
+     * Same rules and guarantees as {@link #recordResults}: the next match can't be contradicted, a later stage can
+     * refuse, a failure rolls the whole batch back, and a success is one journal record and one listener event.
+     */
+    public void applyStates(List<MatchState> states) {
+        applyBatch(states.size(), i -> {
+            MatchState state = states.get(i);
+            Match match = state.getMatch();
+            if (state.getScore1() < 0 || state.getScore2() < 0) {
+                throw new IllegalArgumentException("Scores cannot be negative.");
+            }
+            Participant winner = state.getWinner();
+            if (winner != null && (winner.isPlaceholder() || (winner != match.getParticipant1() && winner != match.getParticipant2()))) {
+                throw new IllegalArgumentException("The winner must be one of the match's participants.");
+            }
+            return state;
+        });
+    }
+
+    /**
+     * Applies {@code count} target states in order; each is worked out just before it's applied, so it sees
+     * the earlier ones (a batch can decide a match and then the one it feeds).
+     */
+    private void applyBatch(int count, IntFunction<MatchState> target) {
+        if (count == 0) return;
+        MatchState[] before = new MatchState[count];
+        Participant[] nextEntrantsBefore = new Participant[count];
+        List<MatchState> applied = new ArrayList<>(count);
+        List<Match> changed = new ArrayList<>(count * 2);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                try {
+                    MatchState state = target.apply(i);
+                    Match match = state.getMatch();
+                    before[i] = MatchState.of(match);
+                    nextEntrantsBefore[i] = nextEntrant(match);
+                    applyState(state);
+                    applied.add(state);
+                    changed.add(match);
+                    Match next = match.peekNextMatch();
+                    if (next != null) changed.add(next);
+                } catch (IllegalArgumentException ex) {
+                    throw count == 1 ? ex : new IllegalArgumentException("Result " + (i + 1) + ": " + ex.getMessage());
+                } catch (IllegalStateException ex) {
+                    throw count == 1 ? ex : new IllegalStateException("Result " + (i + 1) + ": " + ex.getMessage());
+                }
+            }
+            if (resultJournal != null) resultJournal.append(applied);
+        } catch (IOException ex) {
+            rollback(before, nextEntrantsBefore);
+            throw new IllegalStateException("Could not write the result journal: " + ex.getMessage(), ex);
+        } catch (RuntimeException ex) {
+            rollback(before, nextEntrantsBefore);
+            throw ex;
+        }
+
+        fireMatchesChanged(changed);
+    }
+
+    private void applyState(MatchState state) {
+        Match match = state.getMatch();
+        Participant winner = state.getWinner();
+        if (winner != match.getWinner()) {
+            Match next = match.peekNextMatch();
+            if (next != null && next.getWinner() != null) {
+                throw new IllegalStateException("The next match is already decided; correct it first.");
+            }
+            if (advancementCheck != null) advancementCheck.check(match, winner);
+        }
+        match.setScore1(state.getScore1());
+        match.setScore2(state.getScore2());
+        match.setWinner(winner);
+        setNextEntrant(match, winner);
+    }
+
+    // Undo in reverse so a match touched twice ends up with its original state
+    private void rollback(MatchState[] before, Participant[] nextEntrants) {
+        for (int i = before.length - 1; i >= 0; i--) {
+            if (before[i] == null) continue;
+            Match match = before[i].getMatch();
+            match.setScore1(before[i].getScore1());
+            match.setScore2(before[i].getScore2());
+            match.setWinner(before[i].getWinner());
+            setNextEntrant(match, nextEntrants[i]);
+        }
+    }
+
+    private static Participant nextEntrant(Match match) {
+        Match next = match.peekNextMatch();
+        if (next == null) return null;
+        return (match.getSlot() & 1) == 0 ? next.getParticipant1() : next.getParticipant2();
+    }
+
+    // Even slots feed the top of the next match, odd slots the bottom. Nobody to move in doesn't create the match.
+    private static void setNextEntrant(Match match, Participant entrant) {
+        Match next = entrant != null ? match.getNextMatch() : match.peekNextMatch();
+        if (next == null) return;
+        if ((match.getSlot() & 1) == 0) next.setParticipant1(entrant);
+        else next.setParticipant2(entrant);
+    }
+
+    // --- Listeners & journal ---
+
+    public void addTournamentListener(TournamentListener listener) {
+        if (listeners == null) listeners = new ArrayList<>();
+        listeners.add(listener);
+    }
+
+    public void removeTournamentListener(TournamentListener listener) {
+        if (listeners != null) listeners.remove(listener);
+    }
+
+    /**
+     * Every successful batch from now on is appended here, whether it came from {@link #recordResults} or
+     * {@link #applyStates}; null turns journaling off.
+     */
+    public void setResultJournal(ResultJournal resultJournal) {
+        this.resultJournal = resultJournal;
+    }
+
     // --- Getters & Setters ---
     public String getTournamentName() { return tournamentName; }
     public void setTournamentName(String tournamentName) { this.tournamentName = tournamentName; }
     public List<List<Match>> getRounds() { return rounds; }
     public String getRules() { return rules; }
     public void setRules(String rules) { this.rules = rules; }
+    public List<Participant> getParticipants() { return participants; }
+    public boolean isSeedByRating() { return seedByRating; }
+    public void setSeedByRating(boolean seedByRating) { this.seedByRating = seedByRating; }
     public void setParticipants(List<Participant> participants) { this.participants = participants; }
 }
\ No newline at end of file
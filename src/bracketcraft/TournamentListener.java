@@ -0,0 +1,13 @@
+package bracketcraft;
+
+import java.util.List;
+
+/**
+ * Notified once per recorded batch of results (a single score edit is a batch of one).
+ */
+public interface TournamentListener {
+    /**
+     * @param changed every match whose score, winner or entrants changed, in the order they were touched.
+     */
+    void resultsRecorded(List<Match> changed);
+}
@@ -0,0 +1,282 @@
+package bracketcraft;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * -- STRESS HARNESS --
+ * Headless check for big and awkward brackets, run with {@code ant stress} (or from the test and main classes dirs):
+ * {@code java -Djava.awt.headless=true bracketcraft.BracketStressHarness [--max N] [--out DIR] [--baseline FILE]}
+ *
+ * For every size from 2 up to --max (default 2^20, odd counts and 2^k+1 "almost all byes" fields included) it
+ * generates the bracket, lays it out both ways, checks the structure (and that later rounds stayed lazy) and renders it off screen.
+ * Small brackets are rendered whole and written as PNGs; big ones only render their top-left corner.
+ * Every render's pixel CRC goes to checksums.txt; pass last run's file as --baseline to catch layout regressions
+ * (fonts differ between machines, so compare runs from the same box). Generate + layout time and retained heap
+ * are checked against a per-size budget. Exit code is 1 if anything failed.
+ */
+public final class BracketStressHarness {
+    private static final int[] SIZES = {
+        2, 3, 4, 5, 6, 7, 8, 9, 15, 16, 17, 31, 33, 63, 64, 65, 100, 127, 129, 255, 257, 1000, 1023, 1025,
+        4097, 10_007, 65_537, 100_000, 262_145, 1_000_000, 1 << 20
+    };
+    private static final int FULL_RENDER_LIMIT = 64;
+    private static final int CORNER_RENDER_SIZE = 2048;
+
+    // Budgets are loose on purpose: they're there to catch an accidental O(n^2) or a blown-up object, not jitter
+    private static long timeBudgetMillis(int entrants) { return 250 + entrants / 200; }
+    private static long heapBudgetBytes(int entrants) { return (4L << 20) + entrants * 400L; }
+
+    private final File outputDir;
+    private final Map<String, Long> checksums = new LinkedHashMap<>();
+    private final List<String> failures = new ArrayList<>();
+
+    private BracketStressHarness(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        int max = 1 << 20;
+        File outputDir = new File("build/stress");
+        File baseline = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--max": max = Integer.parseInt(args[++i]); break;
+                case "--out": outputDir = new File(args[++i]); break;
+                case "--baseline": baseline = new File(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) throw new IOException("Cannot create " + outputDir);
+
+        BracketStressHarness harness = new BracketStressHarness(outputDir);
+        System.out.printf("%10s %6s %9s %9s %9s %9s %9s %9s  %s%n",
+                "entrants", "rounds", "matches", "byes", "gen ms", "layout ms", "render ms", "heap MB", "status");
+        warmUp();
+        for (int entrants : SIZES) {
+            if (entrants <= max) harness.run(entrants);
+        }
+        harness.writeChecksums(baseline);
+
+        if (harness.failures.isEmpty()) {
+            System.out.println("All sizes passed.");
+        } else {
+            harness.failures.forEach(f -> System.out.println("FAILED: " + f));
+            System.exit(1);
+        }
+    }
+
+    // --- One size ---
+
+    private void run(int entrants) {
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        ParticipantRegistry registry = new ParticipantRegistry();
+        List<Participant> participants = new ArrayList<>(entrants);
+        for (int i = 0; i < entrants; i++) participants.add(registry.intern("Entrant " + (i + 1)));
+        Tournament tournament = new Tournament("Stress " + entrants, participants);
+        tournament.generateBracket("Single Elimination");
+        long generated = System.nanoTime();
+        BracketLayout layout = new BracketLayout(tournament.getRounds(), BracketLayout.LEFT_TO_RIGHT);
+        long laidOut = System.nanoTime();
+        long heapUsed = usedHeap() - heapBefore;
+
+        String status = "ok";
+        long renderNanos = 0;
+        try {
+            // Before anything walks the bracket: generating and laying out must leave the future rounds untouched
+            checkLazy(tournament);
+            checkStructure(tournament, entrants);
+            checkLayout(layout);
+            BracketLayout mirrored = new BracketLayout(tournament.getRounds(), BracketLayout.MIRRORED);
+            checkLayout(mirrored);
+
+            long renderStart = System.nanoTime();
+            render(layout, entrants, "ltr");
+            render(mirrored, entrants, "mirrored");
+            renderNanos = System.nanoTime() - renderStart;
+
+            long millis = (laidOut - start) / 1_000_000;
+            check(millis <= timeBudgetMillis(entrants), "took " + millis + " ms, budget " + timeBudgetMillis(entrants) + " ms");
+            check(heapUsed <= heapBudgetBytes(entrants), "retained " + heapUsed / 1024 + " KB, budget " + heapBudgetBytes(entrants) / 1024 + " KB");
+        } catch (IllegalStateException | IOException ex) {
+            status = "FAIL";
+            failures.add(entrants + " entrants: " + ex.getMessage());
+        }
+
+        int matches = 0;
+        for (List<Match> round : tournament.getRounds()) matches += round.size();
+        System.out.printf("%10d %6d %9d %9d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                entrants, tournament.getRounds().size(), matches, tournament.getByeCount(),
+                (generated - start) / 1e6, (laidOut - generated) / 1e6, renderNanos / 1e6, heapUsed / 1048576.0, status);
+    }
+
+    // Class loading and the first JIT passes would otherwise be billed to the smallest sizes
+    private static void warmUp() {
+        for (int pass = 0; pass < 5; pass++) {
+            List<Participant> participants = new ArrayList<>();
+            for (int i = 0; i < 4097; i++) participants.add(new Participant("Warm-up " + i));
+            Tournament tournament = new Tournament("Warm-up", participants);
+            tournament.generateBracket("Single Elimination");
+            new BracketLayout(tournament.getRounds(), BracketLayout.LEFT_TO_RIGHT);
+        }
+    }
+
+    // --- Invariants ---
+
+    /**
+     * Round sizes, byes, wiring (every match feeds slot>>1 of the next round, so everything reaches the final)
+     * and seed pairing (every seed sits exactly where the standard seed order puts it).
+     */
+    private static void checkStructure(Tournament tournament, int entrants) {
+        List<List<Match>> rounds = tournament.getRounds();
+        int bracketSize = Integer.highestOneBit(entrants - 1) << 1;
+        int roundCount = Integer.numberOfTrailingZeros(bracketSize);
+        check(rounds.size() == roundCount, "expected " + roundCount + " rounds, got " + rounds.size());
+        check(rounds.get(0).size() == entrants - bracketSize / 2, "wrong first-round match count " + rounds.get(0).size());
+        check(tournament.getByeCount() == bracketSize - entrants, "wrong bye count " + tournament.getByeCount());
+
+        for (int r = 0; r < roundCount; r++) {
+            List<Match> round = rounds.get(r);
+            if (r > 0) check(round.size() == bracketSize >> (r + 1), "round " + r + " has " + round.size() + " matches");
+            int previousSlot = -1;
+            for (Match m : round) {
+                check(m.getRound() == r && m.getSlot() > previousSlot, "match out of order in round " + r);
+                previousSlot = m.getSlot();
+                Match next = m.getNextMatch();
+                if (r == roundCount - 1) {
+                    check(next == null, "the final has a next match");
+                } else {
+                    check(next != null && next.getRound() == r + 1 && next.getSlot() == m.getSlot() >> 1,
+                            "match " + r + "/" + m.getSlot() + " doesn't feed slot " + (m.getSlot() >> 1) + " of round " + (r + 1));
+                }
+                check(m.getWinner() == null, "fresh bracket has a winner at " + r + "/" + m.getSlot());
+            }
+        }
+
+        List<Participant> participants = tournament.getParticipants();
+        for (int seed = 1; seed <= entrants; seed++) {
+            int position = Tournament.positionOf(seed, bracketSize);
+            check(Tournament.seedAt(position, bracketSize) == seed, "seed order is not invertible at seed " + seed);
+            int pair = position >> 1;
+            Match match;
+            int side;
+            if (tournament.isFirstRoundBye(pair)) {
+                check(seed <= bracketSize / 2, "seed " + seed + " got a bye ahead of a better seed");
+                match = rounds.get(1).get(pair >> 1);
+                side = pair & 1;
+            } else {
+                match = findBySlot(rounds.get(0), pair);
+                side = position & 1;
+                check(match != null, "no first-round match for seed " + seed);
+                Participant other = side == 0 ? match.getParticipant2() : match.getParticipant1();
+                // Entrants are named in seed order
+                check(other != null && other.getName().equals("Entrant " + (bracketSize + 1 - seed)),
+                        "seed " + seed + " isn't paired with seed " + (bracketSize + 1 - seed));
+            }
+            Participant placed = side == 0 ? match.getParticipant1() : match.getParticipant2();
+            check(placed == participants.get(seed - 1), "seed " + seed + " is not in position " + position);
+        }
+    }
+
+    /** Only byes may have created later-round matches, and only in round 2 (index 1). */
+    private static void checkLazy(Tournament tournament) {
+        List<List<Match>> rounds = tournament.getRounds();
+        for (int r = 1; r < rounds.size(); r++) {
+            int created = ((LazyRound) rounds.get(r)).getMaterializedCount();
+            int allowed = r == 1 ? tournament.getByeCount() : 0;
+            check(created <= allowed, "round " + r + " has " + created + " matches created up front, expected at most " + allowed);
+        }
+    }
+
+    /** No two boxes in a column overlap, and the layout's next() agrees with the model. */
+    private static void checkLayout(BracketLayout layout) {
+        for (int r = 0; r < layout.getRoundCount(); r++) {
+            for (int c = 0; c < layout.getColumnCount(r); c++) {
+                for (int i = layout.columnStart(r, c) + 1; i < layout.columnEnd(r, c); i++) {
+                    check(layout.getY(r, i) - layout.getY(r, i - 1) >= BracketDisplayPanel.MATCH_HEIGHT,
+                            "overlapping boxes in round " + r + " at index " + i);
+                }
+            }
+            for (int i = 0; i < layout.getMatchCount(r); i++) {
+                int next = layout.next(r, i);
+                Match expected = layout.getMatch(r, i).getNextMatch();
+                check(next < 0 ? expected == null : layout.getMatch(r + 1, next) == expected,
+                        "layout next() disagrees with the bracket at " + r + "/" + i);
+            }
+        }
+    }
+
+    private static Match findBySlot(List<Match> round, int slot) {
+        int lo = 0, hi = round.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int s = round.get(mid).getSlot();
+            if (s == slot) return round.get(mid);
+            if (s < slot) lo = mid + 1;
+            else hi = mid - 1;
+        }
+        return null;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) throw new IllegalStateException(message);
+    }
+
+    // --- Rendering ---
+
+    private void render(BracketLayout layout, int entrants, String view) throws IOException {
+        BracketExporter exporter = new BracketExporter(layout);
+        Rectangle bounds = exporter.getBounds();
+        boolean whole = entrants <= FULL_RENDER_LIMIT;
+        Rectangle region = whole ? bounds
+                : new Rectangle(bounds.x, bounds.y, Math.min(bounds.width, CORNER_RENDER_SIZE), Math.min(bounds.height, CORNER_RENDER_SIZE));
+        BufferedImage image = exporter.renderRegion(region);
+
+        CRC32 crc = new CRC32();
+        for (int pixel : ((DataBufferInt) image.getRaster().getDataBuffer()).getData()) {
+            crc.update(pixel >>> 24);
+            crc.update(pixel >>> 16);
+            crc.update(pixel >>> 8);
+            crc.update(pixel);
+        }
+        checksums.put(entrants + " " + view, crc.getValue());
+        if (whole) ImageIO.write(image, "png", new File(outputDir, "bracket_" + entrants + "_" + view + ".png"));
+    }
+
+    private void writeChecksums(File baseline) throws IOException {
+        List<String> lines = new ArrayList<>();
+        checksums.forEach((key, crc) -> lines.add(key + " " + Long.toHexString(crc)));
+        Files.write(new File(outputDir, "checksums.txt").toPath(), lines, StandardCharsets.UTF_8);
+        if (baseline == null) return;
+
+        for (String line : Files.readAllLines(baseline.toPath(), StandardCharsets.UTF_8)) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length != 3) continue;
+            Long current = checksums.get(parts[0] + " " + parts[1]);
+            if (current != null && current != Long.parseLong(parts[2], 16)) {
+                failures.add(parts[0] + " entrants (" + parts[1] + "): render differs from the baseline");
+            }
+        }
+    }
+
+    // --- Helpers ---
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}